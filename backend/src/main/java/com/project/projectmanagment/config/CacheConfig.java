@@ -0,0 +1,87 @@
+package com.project.projectmanagment.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.user.UserEntity;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_BY_ID = "usersById";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String PROJECTS_BY_ID = "projectsById";
+    public static final String PROJECTS_BY_NAME = "projectsByName";
+    public static final String MEMBERS_BY_USER_PROJECT = "membersByUserProject";
+
+    public static final List<String> LOOKUP_CACHES =
+        List.of(USERS_BY_ID, USERS_BY_EMAIL, PROJECTS_BY_ID, PROJECTS_BY_NAME, MEMBERS_BY_USER_PROJECT);
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.lookup-ttl-ms:600000}") long ttlMs,
+            @Value("${app.cache.lookup-max-size:10000}") long maxSize) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CopyingCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .maximumSize(maxSize)
+            .recordStats());
+        caffeineCacheManager.setCacheNames(LOOKUP_CACHES);
+        // Evictions issued inside a transaction are applied after commit, so a
+        // concurrent reader cannot re-cache the row before the change is visible.
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    // Entities are copied into and out of the cache, so a caller that edits what it read
+    // never changes the cached row for other requests, nor leaves a rolled-back edit behind.
+    static class CopyingCaffeineCache extends CaffeineCache {
+
+        CopyingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object toStoreValue(Object userValue) {
+            return super.toStoreValue(copy(userValue));
+        }
+
+        @Override
+        protected Object fromStoreValue(Object storeValue) {
+            return copy(super.fromStoreValue(storeValue));
+        }
+
+        private static Object copy(Object value) {
+            if (value instanceof UserEntity user) {
+                return user.toBuilder().build();
+            }
+            if (value instanceof ProjectEntity project) {
+                return project.toBuilder().build();
+            }
+            if (value instanceof ProjectMember member) {
+                return member.toBuilder().build();
+            }
+            return value;
+        }
+    }
+}
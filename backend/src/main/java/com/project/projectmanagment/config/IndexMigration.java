@@ -0,0 +1,89 @@
+package com.project.projectmanagment.config;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the secondary indexes of schema.sql on databases that lack them. Hibernate creates
+ * the tables before schema.sql runs, so its CREATE TABLE IF NOT EXISTS statements, and the
+ * indexes declared inside them, are skipped on every database, new or old. Each index is
+ * looked up in the JDBC metadata (information_schema on MySQL) and created only if missing,
+ * so the migration is safe to run on every boot. InnoDB builds them without blocking writes.
+ */
+@Component
+@Slf4j
+public class IndexMigration implements ApplicationRunner {
+
+    record IndexDefinition(String table, String name, String columns) {
+    }
+
+    static final List<IndexDefinition> INDEXES = List.of(
+        new IndexDefinition("project_member_tl", "idx_member_project_status", "project_id, status"),
+        new IndexDefinition("task_tl", "idx_task_project_status", "project_id_fk, task_status"),
+        new IndexDefinition("task_tl", "idx_task_assigned_to", "assigned_to"),
+        new IndexDefinition("task_tl", "idx_task_status", "task_status"),
+        new IndexDefinition("task_tl", "idx_task_project_modified", "project_id_fk, modified_at"),
+        new IndexDefinition("task_view", "idx_task_view_project_status", "project_id, task_status"),
+        new IndexDefinition("task_view", "idx_task_view_assigned_to", "assigned_to"),
+        new IndexDefinition("task_view", "idx_task_view_status", "task_status"),
+        new IndexDefinition("task_view", "idx_task_view_project_modified", "project_id, modified_at"),
+        new IndexDefinition("task_view", "idx_task_view_modified", "modified_at"),
+        new IndexDefinition("task_tombstone_tl", "idx_tombstone_project_deleted", "project_id, deleted_at"),
+        new IndexDefinition("task_tombstone_tl", "idx_tombstone_deleted", "deleted_at"),
+        new IndexDefinition("task_history_tl", "idx_history_task_changed", "task_id, changed_at"),
+        new IndexDefinition("notification_outbox", "idx_outbox_status_available", "status, available_at"),
+        new IndexDefinition("project_import_tl", "idx_import_project_started", "project_name, started_at"),
+        new IndexDefinition("project_import_tl", "idx_import_started", "started_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IndexMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    public int migrate() {
+        int created = 0;
+        for (IndexDefinition index : INDEXES) {
+            if (!exists(index)) {
+                log.info("Creating index {} on {} ({})", index.name(), index.table(), index.columns());
+                jdbcTemplate.execute("CREATE INDEX " + index.name() + " ON " + index.table()
+                    + " (" + index.columns() + ")");
+                created++;
+            }
+        }
+        return created;
+    }
+
+    private boolean exists(IndexDefinition index) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers()
+                ? index.table().toUpperCase(Locale.ROOT)
+                : index.table();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table,
+                    false, true)) {
+                while (indexes.next()) {
+                    if (index.name().equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.projectmanagment.controller;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Raised on flush/commit when another transaction bumped the @Version after our read.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse> handleOptimisticLock(OptimisticLockingFailureException e) {
+        log.warn("Concurrent modification rejected: {}", e.getMessage());
+        ApiResponse response = ApiResponse.conflict("The resource was modified by another user; reload and retry");
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @ExceptionHandler(VersionHeaders.InvalidIfMatchException.class)
+    public ResponseEntity<ApiResponse> handleInvalidIfMatch(VersionHeaders.InvalidIfMatchException e) {
+        ApiResponse response = ApiResponse.badRequest(e.getMessage());
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @ExceptionHandler(CursorPage.InvalidCursorException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCursor(CursorPage.InvalidCursorException e) {
+        ApiResponse response = ApiResponse.badRequest("Invalid cursor");
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+}
@@ -1,19 +1,34 @@
 package com.project.projectmanagment.controller;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.cache.CacheManager;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.projectmanagment.config.CacheConfig;
+import com.project.projectmanagment.services.MailDispatcher;
+import com.project.projectmanagment.services.TaskEventBroadcaster;
+
+import lombok.RequiredArgsConstructor;
+
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final MailDispatcher mailDispatcher;
+    private final CacheManager cacheManager;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
         Map<String, Object> response = new HashMap<>();
@@ -22,4 +37,39 @@ public class HealthController {
         response.put("version", "1.0.0");
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/health/mail")
+    public ResponseEntity<Map<String, Object>> mailQueue() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("pending", mailDispatcher.getPendingCount());
+        response.put("failed", mailDispatcher.getFailedCount());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/health/events")
+    public ResponseEntity<Map<String, Object>> eventSubscribers() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("subscribers", taskEventBroadcaster.getSubscriberCount());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/health/caches")
+    public ResponseEntity<Map<String, Object>> caches() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String name : CacheConfig.LOOKUP_CACHES) {
+            var cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof Cache<?, ?> nativeCache)) {
+                continue;
+            }
+            CacheStats stats = nativeCache.stats();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("size", nativeCache.estimatedSize());
+            entry.put("hits", stats.hitCount());
+            entry.put("misses", stats.missCount());
+            entry.put("hitRate", stats.hitRate());
+            entry.put("evictions", stats.evictionCount());
+            response.put(name, entry);
+        }
+        return ResponseEntity.ok(response);
+    }
+}
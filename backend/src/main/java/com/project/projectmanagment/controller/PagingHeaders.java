@@ -0,0 +1,25 @@
+package com.project.projectmanagment.controller;
+
+import org.springframework.http.ResponseEntity;
+
+import com.project.projectmanagment.models.response.ApiResponse;
+
+final class PagingHeaders {
+
+    static final String DEPRECATION = "Deprecation";
+
+    private PagingHeaders() {
+    }
+
+    // Lists asked for without cursor and limit still come back whole for existing clients.
+    // That form is deprecated; clients should pass limit and follow nextCursor.
+    static ResponseEntity<ApiResponse> markUnpaged(ResponseEntity<ApiResponse> entity, String cursor, Integer limit) {
+        if (cursor != null || limit != null) {
+            return entity;
+        }
+        return ResponseEntity.status(entity.getStatusCode())
+            .headers(entity.getHeaders())
+            .header(DEPRECATION, "true")
+            .body(entity.getBody());
+    }
+}
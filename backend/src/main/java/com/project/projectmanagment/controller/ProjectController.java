@@ -1,10 +1,21 @@
 package com.project.projectmanagment.controller;
 
+import java.io.InputStream;
+import java.util.Optional;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.project.projectmanagment.models.project.*;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.services.ProjectExportService;
+import com.project.projectmanagment.services.ProjectImportService;
 import com.project.projectmanagment.services.ProjectService;
 
 import lombok.RequiredArgsConstructor;
@@ -16,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectExportService projectExportService;
+    private final ProjectImportService projectImportService;
 
     @PostMapping("/create")
     public ResponseEntity<ApiResponse> createProject(@RequestBody ProjectDTO request, 
@@ -25,15 +38,16 @@ public class ProjectController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse> getAllProjects() {
-        ApiResponse response = projectService.getAllProjects();
-        return ResponseEntity.status(response.getStatus()).body(response);
+    public ResponseEntity<ApiResponse> getAllProjects(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ApiResponse response = projectService.getAllProjects(cursor, limit);
+        return PagingHeaders.markUnpaged(ResponseEntity.status(response.getStatus()).body(response), cursor, limit);
     }
 
     @GetMapping("/name/{projectName}")
     public ResponseEntity<ApiResponse> getProjectByName(@PathVariable String projectName) {
         ApiResponse response = projectService.getProjectByName(projectName);
-        return ResponseEntity.status(response.getStatus()).body(response);
+        return withVersion(response);
     }
 
     @GetMapping("/{projectId}")
@@ -43,16 +57,23 @@ public class ProjectController {
     }
 
     @GetMapping("/user/{email}")
-    public ResponseEntity<ApiResponse> getUserProjects(@PathVariable String email) {
+    public ResponseEntity<ApiResponse> getUserProjects(@PathVariable String email, WebRequest webRequest) {
+        Optional<String> etag = projectService.getUserProjectsETag(email);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
         ApiResponse response = projectService.getUserProjects(email);
-        return ResponseEntity.status(response.getStatus()).body(response);
+        return etag.isPresent() ? withETag(response, etag.get())
+            : ResponseEntity.status(response.getStatus()).body(response);
     }
 
     @PutMapping("/{projectName}")
     public ResponseEntity<ApiResponse> updateProject(@PathVariable String projectName, 
-            @RequestBody ProjectDTO request) {
-        ApiResponse response = projectService.updateProject(projectName, request);
-        return ResponseEntity.status(response.getStatus()).body(response);
+            @RequestBody ProjectDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ApiResponse response = projectService.updateProject(projectName, request,
+            VersionHeaders.parseIfMatch(ifMatch));
+        return withVersion(response);
     }
 
     @DeleteMapping("/{projectName}")
@@ -74,12 +95,53 @@ public class ProjectController {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
-    @GetMapping("/{projectName}/members")
-    public ResponseEntity<ApiResponse> getProjectMembers(@PathVariable String projectName) {
-        ApiResponse response = projectService.getProjectMembers(projectName);
+    @GetMapping("/{projectName}/export")
+    public ResponseEntity<?> exportProject(@PathVariable String projectName) {
+        Optional<StreamingResponseBody> export = projectExportService.exportProject(projectName);
+        if (export.isEmpty()) {
+            ApiResponse response = ApiResponse.notFound("Project not found");
+            return ResponseEntity.status(response.getStatus()).body(response);
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + projectName + ".ndjson\"")
+            .body(export.get());
+    }
+
+    @PostMapping("/{projectName}/import")
+    public ResponseEntity<ApiResponse> importTasks(@PathVariable String projectName,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestParam(required = false) Long importedBy, InputStream body) {
+        ApiResponse response = projectImportService.importTasks(projectName, contentType, body, importedBy);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @GetMapping("/{projectName}/import")
+    public ResponseEntity<ApiResponse> getImports(@PathVariable String projectName) {
+        ApiResponse response = projectImportService.getImports(projectName);
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    @GetMapping("/{projectName}/import/{importId}")
+    public ResponseEntity<ApiResponse> getImport(@PathVariable String projectName, @PathVariable String importId) {
+        ApiResponse response = projectImportService.getImport(projectName, importId);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @GetMapping("/{projectName}/members")
+    public ResponseEntity<ApiResponse> getProjectMembers(@PathVariable String projectName,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit, WebRequest webRequest) {
+        Optional<String> etag = projectService.getProjectMembersETag(projectName, status, cursor, limit);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        ApiResponse response = projectService.getProjectMembers(projectName, status, cursor, limit);
+        return PagingHeaders.markUnpaged(etag.isPresent() ? withETag(response, etag.get())
+            : ResponseEntity.status(response.getStatus()).body(response), cursor, limit);
+    }
+
     @GetMapping("/{projectName}/member-role/{email}")
     public ResponseEntity<ApiResponse> getMemberRole(@PathVariable String projectName, 
             @PathVariable String email) {
@@ -89,8 +151,10 @@ public class ProjectController {
 
     @PutMapping("/{projectName}/member-role/{email}")
     public ResponseEntity<ApiResponse> updateMemberRole(@PathVariable String projectName, 
-            @PathVariable String email, @RequestParam String role) {
-        ApiResponse response = projectService.updateMemberRole(email, projectName, role);
+            @PathVariable String email, @RequestParam String role,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ApiResponse response = projectService.updateMemberRole(email, projectName, role,
+            VersionHeaders.parseIfMatch(ifMatch));
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
@@ -100,4 +164,20 @@ public class ProjectController {
         ApiResponse response = projectService.removeMember(email, projectName);
         return ResponseEntity.status(response.getStatus()).body(response);
     }
+
+    private ResponseEntity<ApiResponse> withVersion(ApiResponse response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getStatus());
+        if (response.getData() instanceof ProjectDTO project && project.getVersion() != null) {
+            builder.eTag(VersionHeaders.eTag(project.getVersion()));
+        }
+        return builder.body(response);
+    }
+
+    // Sent only with successful responses; no-cache makes clients revalidate the tag on every poll.
+    private ResponseEntity<ApiResponse> withETag(ApiResponse response, String etag) {
+        if (response.getStatus() != HttpStatus.OK) {
+            return ResponseEntity.status(response.getStatus()).body(response);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+    }
 }
@@ -1,10 +1,22 @@
 package com.project.projectmanagment.controller;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.task.BulkTaskUpdate;
 import com.project.projectmanagment.models.task.CreateTaskRequest;
+import com.project.projectmanagment.models.task.TaskDTO;
+import com.project.projectmanagment.services.TaskEventBroadcaster;
 import com.project.projectmanagment.services.TaskService;
 
 import lombok.RequiredArgsConstructor;
@@ -16,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
 
     @PostMapping("/create")
     public ResponseEntity<ApiResponse> createTask(@RequestBody CreateTaskRequest request) {
@@ -23,47 +36,125 @@ public class TaskController {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> createTasks(@RequestBody List<CreateTaskRequest> requests) {
+        ApiResponse response = taskService.createTasks(requests);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<ApiResponse> updateTasks(@RequestBody List<BulkTaskUpdate> updates,
+            @RequestParam Long updatedBy) {
+        ApiResponse response = taskService.updateTasks(updates, updatedBy);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse> getAllTasks() {
-        ApiResponse response = taskService.getAllTasks();
+    public ResponseEntity<ApiResponse> getAllTasks(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) String fields) {
+        ApiResponse response = taskService.getAllTasks(cursor, limit, fields);
+        return PagingHeaders.markUnpaged(ResponseEntity.status(response.getStatus()).body(response), cursor, limit);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchTasks(@RequestParam String q, @RequestParam Long userId,
+            @RequestParam(required = false) Integer limit) {
+        ApiResponse response = taskService.searchTasks(q, userId, limit);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<ApiResponse> rebuildSearchIndex() {
+        ApiResponse response = taskService.rebuildSearchIndex();
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
     @GetMapping("/{taskId}")
     public ResponseEntity<ApiResponse> getTaskById(@PathVariable Long taskId) {
         ApiResponse response = taskService.getTaskById(taskId);
-        return ResponseEntity.status(response.getStatus()).body(response);
+        return withVersion(response);
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<ApiResponse> getTasksByProject(@PathVariable Long projectId) {
-        ApiResponse response = taskService.getTasksByProject(projectId);
+    public ResponseEntity<ApiResponse> getTasksByProject(@PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        String etag = taskService.getTasksByProjectETag(projectId, cursor, limit, fields);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ApiResponse response = taskService.getTasksByProject(projectId, cursor, limit, fields);
+        return PagingHeaders.markUnpaged(withETag(response, etag), cursor, limit);
+    }
+
+    @GetMapping(value = "/project/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProjectEvents(@PathVariable Long projectId) {
+        return taskEventBroadcaster.subscribe(projectId);
+    }
+
+    @GetMapping("/project/{projectId}/changes")
+    public ResponseEntity<ApiResponse> getTaskChanges(@PathVariable Long projectId,
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ApiResponse response = taskService.getTaskChanges(projectId, since, cursor, limit);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @GetMapping("/project/{projectId}/stats")
+    public ResponseEntity<ApiResponse> getTaskStats(@PathVariable Long projectId) {
+        ApiResponse response = taskService.getTaskStats(projectId);
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
     @GetMapping("/project/name/{projectName}")
-    public ResponseEntity<ApiResponse> getTasksByProjectName(@PathVariable String projectName) {
-        ApiResponse response = taskService.getTasksByProjectName(projectName);
+    public ResponseEntity<ApiResponse> getTasksByProjectName(@PathVariable String projectName,
+            @RequestParam(required = false) String fields) {
+        ApiResponse response = taskService.getTasksByProjectName(projectName, fields);
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse> getTasksByUser(@PathVariable Long userId) {
-        ApiResponse response = taskService.getTasksByUser(userId);
+    public ResponseEntity<ApiResponse> getTasksByUser(@PathVariable Long userId,
+            @RequestParam(required = false) String fields) {
+        ApiResponse response = taskService.getTasksByUser(userId, fields);
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse> getTasksByStatus(@PathVariable String status) {
-        ApiResponse response = taskService.getTasksByStatus(status);
-        return ResponseEntity.status(response.getStatus()).body(response);
+    public ResponseEntity<ApiResponse> getTasksByStatus(@PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) String fields) {
+        ApiResponse response = taskService.getTasksByStatus(status, cursor, limit, fields);
+        return PagingHeaders.markUnpaged(ResponseEntity.status(response.getStatus()).body(response), cursor, limit);
     }
 
     @PutMapping("/{taskId}")
     public ResponseEntity<ApiResponse> updateTask(@PathVariable Long taskId, 
-            @RequestBody CreateTaskRequest request, @RequestParam Long updatedBy) {
-        ApiResponse response = taskService.updateTask(taskId, request, updatedBy);
-        return ResponseEntity.status(response.getStatus()).body(response);
+            @RequestBody CreateTaskRequest request, @RequestParam Long updatedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ApiResponse response = taskService.updateTask(taskId, request, updatedBy,
+            VersionHeaders.parseIfMatch(ifMatch));
+        return withVersion(response);
+    }
+
+    @PatchMapping(value = "/{taskId}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse> patchTask(@PathVariable Long taskId,
+            @RequestBody Map<String, Object> patch, @RequestParam Long updatedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ApiResponse response = taskService.patchTask(taskId, patch, updatedBy,
+            VersionHeaders.parseIfMatch(ifMatch));
+        return withVersion(response);
+    }
+
+    @PatchMapping("/{taskId}/status")
+    public ResponseEntity<ApiResponse> updateTaskStatus(@PathVariable Long taskId,
+            @RequestParam String status, @RequestParam Long updatedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ApiResponse response = taskService.updateTaskStatus(taskId, status, updatedBy,
+            VersionHeaders.parseIfMatch(ifMatch));
+        return withVersion(response);
     }
 
     @DeleteMapping("/{taskId}")
@@ -79,8 +170,26 @@ public class TaskController {
     }
 
     @GetMapping("/dashboard/{email}")
-    public ResponseEntity<ApiResponse> getDashboardStats(@PathVariable String email) {
-        ApiResponse response = taskService.getDashboardStats(email);
+    public ResponseEntity<ApiResponse> getDashboardStats(@PathVariable String email,
+            @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+        ApiResponse response = taskService.getDashboardStats(email, page, size);
         return ResponseEntity.status(response.getStatus()).body(response);
     }
+
+    // The task's @Version as ETag, for clients to send back as If-Match on their next write.
+    private ResponseEntity<ApiResponse> withVersion(ApiResponse response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getStatus());
+        if (response.getData() instanceof TaskDTO task && task.getVersion() != null) {
+            builder.eTag(VersionHeaders.eTag(task.getVersion()));
+        }
+        return builder.body(response);
+    }
+
+    // Sent only with successful responses; no-cache makes clients revalidate the tag on every poll.
+    private ResponseEntity<ApiResponse> withETag(ApiResponse response, String etag) {
+        if (response.getStatus() != HttpStatus.OK) {
+            return ResponseEntity.status(response.getStatus()).body(response);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+    }
 }
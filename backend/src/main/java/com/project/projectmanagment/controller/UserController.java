@@ -30,9 +30,10 @@ public class UserController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse> getAllUsers() {
-        ApiResponse response = userService.getAllUsers();
-        return ResponseEntity.status(response.getStatus()).body(response);
+    public ResponseEntity<ApiResponse> getAllUsers(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ApiResponse response = userService.getAllUsers(cursor, limit);
+        return PagingHeaders.markUnpaged(ResponseEntity.status(response.getStatus()).body(response), cursor, limit);
     }
 
     @GetMapping("/{userId}")
@@ -0,0 +1,33 @@
+package com.project.projectmanagment.controller;
+
+final class VersionHeaders {
+
+    private VersionHeaders() {
+    }
+
+    // Entity ETags are the quoted @Version value; a missing header or "*" skips the check.
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new InvalidIfMatchException(ifMatch);
+        }
+    }
+
+    static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static class InvalidIfMatchException extends RuntimeException {
+        InvalidIfMatchException(String ifMatch) {
+            super("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -5,9 +5,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "project_member_tl")
+@Table(name = "project_member_tl",
+    uniqueConstraints = @UniqueConstraint(name = "unique_member", columnNames = {"user_id", "project_id"}),
+    indexes = @Index(name = "idx_member_project_status", columnList = "project_id, status"))
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectMember {
@@ -30,4 +32,8 @@ public class ProjectMember {
 
     @Column(name = "joined_at")
     private Date joinedAt;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 }
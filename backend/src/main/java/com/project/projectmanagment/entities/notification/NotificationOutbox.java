@@ -0,0 +1,53 @@
+package com.project.projectmanagment.entities.notification;
+
+import java.sql.Timestamp;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_outbox_status_available", columnList = "status, available_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "notification_type", nullable = false)
+    private String notificationType;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "body", columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "digest_item", length = 500)
+    private String digestItem;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "available_at")
+    private Timestamp availableAt;
+
+    @Column(name = "created_at")
+    private Timestamp createdAt;
+
+    @Column(name = "sent_at")
+    private Timestamp sentAt;
+}
@@ -1,13 +1,14 @@
 package com.project.projectmanagment.entities.project;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "project_tl")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectEntity {
@@ -33,4 +34,18 @@ public class ProjectEntity {
 
     @Column(name = "task_created_by")
     private Long createdBy;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
+    // ETag counter, bumped only by ProjectVersionTracker's bulk updates.
+    @Column(name = "list_version", insertable = false, updatable = false,
+        columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long listVersion;
+
+    // Set when a delete starts; the project then takes no new tasks, and an interrupted delete
+    // is finished by ProjectService.resumeDeletes.
+    @Column(name = "deletion_started_at")
+    private Timestamp deletionStartedAt;
 }
@@ -0,0 +1,50 @@
+package com.project.projectmanagment.entities.project;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "project_import_tl", indexes = {
+    @Index(name = "idx_import_project_started", columnList = "project_name, started_at"),
+    @Index(name = "idx_import_started", columnList = "started_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectImport {
+
+    @Id
+    @Column(name = "import_id", length = 36)
+    private String importId;
+
+    @Column(name = "project_name", nullable = false)
+    private String projectName;
+
+    @Column(name = "format", length = 10)
+    private String format;
+
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "imported", nullable = false)
+    private long imported;
+
+    @Column(name = "failed", nullable = false)
+    private long failed;
+
+    // One message per line.
+    @Column(name = "errors", columnDefinition = "TEXT")
+    private String errors;
+
+    @Column(name = "started_at", nullable = false)
+    private Timestamp startedAt;
+
+    @Column(name = "finished_at")
+    private Timestamp finishedAt;
+}
@@ -0,0 +1,31 @@
+package com.project.projectmanagment.entities.task;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "project_task_stats",
+    uniqueConstraints = @UniqueConstraint(name = "unique_project_task_stats",
+        columnNames = {"project_id", "status", "priority"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTaskStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "priority", nullable = false, length = 50)
+    private String priority;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+}
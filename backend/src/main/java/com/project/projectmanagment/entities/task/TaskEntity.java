@@ -1,18 +1,32 @@
 package com.project.projectmanagment.entities.task;
 
 import java.sql.Date;
+
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "task_tl")
+@Table(name = "task_tl", indexes = {
+    @Index(name = "idx_task_project_status", columnList = "project_id_fk, task_status"),
+    @Index(name = "idx_task_assigned_to", columnList = "assigned_to"),
+    @Index(name = "idx_task_status", columnList = "task_status"),
+    @Index(name = "idx_task_project_modified", columnList = "project_id_fk, modified_at")
+})
+// Status moves touch three columns; don't rewrite the TEXT description with them.
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskEntity {
+    // Table-generated ids let Hibernate batch inserts; data.sql starts the
+    // generator after the seeded rows.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_gen")
+    @TableGenerator(name = "task_id_gen", table = "id_generator", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "task_tl", allocationSize = 50)
     @Column(name = "task_id")
     private Long taskId;
 
@@ -45,4 +59,13 @@ public class TaskEntity {
 
     @Column(name = "updated_at")
     private Date updatedAt;
+
+    // Epoch millis of the last write; the watermark for delta sync.
+    @Column(name = "modified_at")
+    private Long modifiedAt;
+
+    // Optimistic lock; the column default gives rows inserted by data.sql version 0.
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 }
@@ -5,14 +5,18 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "task_history_tl")
+@Table(name = "task_history_tl", indexes = {
+    @Index(name = "idx_history_task_changed", columnList = "task_id, changed_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_history_id_gen")
+    @TableGenerator(name = "task_history_id_gen", table = "id_generator", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "task_history_tl", allocationSize = 50)
     @Column(name = "history_id")
     private Long historyId;
 
@@ -0,0 +1,29 @@
+package com.project.projectmanagment.entities.task;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "task_tombstone_tl", indexes = {
+    @Index(name = "idx_tombstone_project_deleted", columnList = "project_id, deleted_at"),
+    @Index(name = "idx_tombstone_deleted", columnList = "deleted_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Long deletedAt;
+}
@@ -0,0 +1,71 @@
+package com.project.projectmanagment.entities.task;
+
+import java.sql.Date;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Read model of task_tl with the project and assignee names copied in; see TaskViewService.
+@Entity
+@Table(name = "task_view", indexes = {
+    @Index(name = "idx_task_view_project_status", columnList = "project_id, task_status"),
+    @Index(name = "idx_task_view_assigned_to", columnList = "assigned_to"),
+    @Index(name = "idx_task_view_status", columnList = "task_status"),
+    @Index(name = "idx_task_view_project_modified", columnList = "project_id, modified_at"),
+    @Index(name = "idx_task_view_modified", columnList = "modified_at")
+})
+@DynamicUpdate
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskView {
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "task_name", nullable = false)
+    private String taskName;
+
+    @Column(name = "task_description", columnDefinition = "TEXT")
+    private String taskDescription;
+
+    @Column(name = "task_status")
+    private String taskStatus;
+
+    @Column(name = "task_priority")
+    private String taskPriority;
+
+    @Column(name = "due_date")
+    private Date dueDate;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "project_name")
+    private String projectName;
+
+    @Column(name = "assigned_to")
+    private Long assignedTo;
+
+    @Column(name = "assigned_to_name")
+    private String assignedToName;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "created_at")
+    private Date createdAt;
+
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
+    @Column(name = "modified_at")
+    private Long modifiedAt;
+
+    // Copy of task_tl.version, not a lock on this row.
+    @Column(name = "version")
+    private Long version;
+}
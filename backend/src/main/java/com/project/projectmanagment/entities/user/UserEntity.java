@@ -7,7 +7,7 @@ import lombok.*;
 @Entity
 @Table(name = "user_tl")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserEntity {
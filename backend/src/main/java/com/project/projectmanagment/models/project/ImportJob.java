@@ -0,0 +1,22 @@
+package com.project.projectmanagment.models.project;
+
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+    private String importId;
+    private String projectName;
+    private String format;
+    private volatile String status;
+    private volatile long processed;
+    private volatile long imported;
+    private volatile long failed;
+    private List<String> errors;
+    private Timestamp startedAt;
+    private volatile Timestamp finishedAt;
+}
@@ -15,4 +15,6 @@ public class ProjectDTO {
     private String projectStatus;
     private Long createdBy;
     private String creatorEmail;
+    private Long version;
+    private String role;
 }
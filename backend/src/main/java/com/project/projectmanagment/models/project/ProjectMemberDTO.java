@@ -14,4 +14,5 @@ public class ProjectMemberDTO {
     private String role;
     private String status;
     private Date joinedAt;
+    private Long version;
 }
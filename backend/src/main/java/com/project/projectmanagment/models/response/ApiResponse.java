@@ -40,6 +40,14 @@ public class ApiResponse {
         return error(HttpStatus.CONFLICT, message);
     }
 
+    public static ApiResponse conflict(String message, Object data) {
+        return ApiResponse.builder()
+            .status(HttpStatus.CONFLICT)
+            .message(message)
+            .data(data)
+            .build();
+    }
+
     public static ApiResponse badRequest(String message) {
         return error(HttpStatus.BAD_REQUEST, message);
     }
@@ -0,0 +1,67 @@
+package com.project.projectmanagment.models.response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <E, T> CursorPage<T> of(Slice<E> slice, List<T> items, Function<E, Long> idOf) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+            ? encodeCursor(idOf.apply(content.get(content.size() - 1)))
+            : null;
+        return CursorPage.<T>builder()
+            .items(items)
+            .nextCursor(nextCursor)
+            .hasNext(nextCursor != null)
+            .build();
+    }
+
+    public static Pageable pageRequest(Integer limit, String idProperty) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, idProperty));
+    }
+
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    // Mapped to 400 by ApiExceptionHandler, so callers need not catch it.
+    public static class InvalidCursorException extends IllegalArgumentException {
+        public InvalidCursorException(String cursor, Throwable cause) {
+            super("Invalid cursor: " + cursor, cause);
+        }
+    }
+}
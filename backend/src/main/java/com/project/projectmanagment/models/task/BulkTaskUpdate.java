@@ -0,0 +1,13 @@
+package com.project.projectmanagment.models.task;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdate {
+    private Long taskId;
+    private CreateTaskRequest changes;
+    private Long version;
+}
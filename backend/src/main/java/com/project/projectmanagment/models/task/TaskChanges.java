@@ -0,0 +1,16 @@
+package com.project.projectmanagment.models.task;
+
+import java.util.List;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChanges {
+    private List<TaskDTO> tasks;
+    private List<Long> deleted;
+    private Long since;
+    private String nextCursor;
+    private boolean hasMore;
+}
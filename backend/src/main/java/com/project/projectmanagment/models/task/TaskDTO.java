@@ -1,6 +1,9 @@
 package com.project.projectmanagment.models.task;
 
 import java.sql.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.*;
 
 @Data
@@ -10,6 +13,8 @@ import lombok.*;
 public class TaskDTO {
     private Long taskId;
     private String taskName;
+    // Unset on list responses, which read TaskSummary rows.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String taskDescription;
     private String taskStatus;
     private String taskPriority;
@@ -21,4 +26,6 @@ public class TaskDTO {
     private Long createdBy;
     private Date createdAt;
     private Date updatedAt;
+    private Long modifiedAt;
+    private Long version;
 }
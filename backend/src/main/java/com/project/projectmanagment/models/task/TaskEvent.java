@@ -0,0 +1,18 @@
+package com.project.projectmanagment.models.task;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+    public static final String CREATED = "TASK_CREATED";
+    public static final String UPDATED = "TASK_UPDATED";
+    public static final String DELETED = "TASK_DELETED";
+
+    private String type;
+    private Long projectId;
+    private Long taskId;
+    private TaskDTO task;
+}
@@ -0,0 +1,19 @@
+package com.project.projectmanagment.models.task;
+
+import java.sql.Date;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRecord {
+    private String taskName;
+    private String taskDescription;
+    private String taskStatus;
+    private String taskPriority;
+    private Date dueDate;
+    private Long assignedTo;
+    private String assigneeEmail;
+    private Long createdBy;
+}
@@ -0,0 +1,21 @@
+package com.project.projectmanagment.models.task;
+
+import java.sql.Date;
+
+// Closed projection of TaskView for list queries: every column but the TEXT description.
+public interface TaskSummary {
+    Long getTaskId();
+    String getTaskName();
+    String getTaskStatus();
+    String getTaskPriority();
+    Date getDueDate();
+    Long getProjectId();
+    String getProjectName();
+    Long getAssignedTo();
+    String getAssignedToName();
+    Long getCreatedBy();
+    Date getCreatedAt();
+    Date getUpdatedAt();
+    Long getModifiedAt();
+    Long getVersion();
+}
@@ -0,0 +1,28 @@
+package com.project.projectmanagment.repositories.notification;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.entities.notification.NotificationOutbox;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+    long countByStatus(String status);
+
+    @Query(value = "SELECT * FROM notification_outbox WHERE status IN ('PENDING', 'SENDING') AND available_at <= :now "
+        + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> claimPending(@Param("now") Timestamp now, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND digest_item IS NOT NULL "
+        + "AND recipient IN (:recipients) ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> claimPendingDigestItems(@Param("recipients") Collection<String> recipients);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox n WHERE n.status = 'SENT' AND n.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") Timestamp cutoff);
+}
@@ -0,0 +1,19 @@
+package com.project.projectmanagment.repositories.project;
+
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.entities.project.ProjectImport;
+
+@Repository
+public interface ProjectImportRepository extends JpaRepository<ProjectImport, String> {
+    List<ProjectImport> findTop50ByProjectNameOrderByStartedAtDesc(String projectName);
+
+    @Modifying
+    @Query("DELETE FROM ProjectImport i WHERE i.startedAt < :cutoff")
+    int deleteByStartedAtBefore(@Param("cutoff") Timestamp cutoff);
+}
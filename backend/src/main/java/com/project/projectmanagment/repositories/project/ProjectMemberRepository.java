@@ -2,15 +2,51 @@ package com.project.projectmanagment.repositories.project;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.config.CacheConfig;
 import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.models.project.ProjectMemberDTO;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
     List<ProjectMember> findByProjectId(Long projectId);
     List<ProjectMember> findByUserId(Long userId);
-    Optional<ProjectMember> findByUserIdAndProjectId(Long userId, Long projectId);
     List<ProjectMember> findByProjectIdAndStatus(Long projectId, String status);
-    void deleteByProjectId(Long projectId);
+
+    @Cacheable(cacheNames = CacheConfig.MEMBERS_BY_USER_PROJECT, key = "#p0 + ':' + #p1")
+    Optional<ProjectMember> findByUserIdAndProjectId(Long userId, Long projectId);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS_BY_USER_PROJECT, key = "#p0.userId + ':' + #p0.projectId")
+    <S extends ProjectMember> S save(S member);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS_BY_USER_PROJECT, key = "#p0.userId + ':' + #p0.projectId")
+    void delete(ProjectMember member);
+
+    @Query("SELECT m.userId FROM ProjectMember m WHERE m.projectId = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
+    // Bypasses the per-row evictions; callers evict the project's membership keys themselves.
+    @Modifying
+    @Query("DELETE FROM ProjectMember m WHERE m.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.project.projectmanagment.models.project.ProjectMemberDTO("
+        + "m.userId, u.email, u.name, m.role, m.status, m.joinedAt, m.version) "
+        + "FROM ProjectMember m LEFT JOIN UserEntity u ON u.userId = m.userId "
+        + "WHERE m.projectId = :projectId AND (:status IS NULL OR m.status = :status) AND m.userId > :afterUserId")
+    Slice<ProjectMemberDTO> findMemberDetails(@Param("projectId") Long projectId, @Param("status") String status,
+        @Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Query("SELECT m.projectId FROM ProjectMember m WHERE m.userId = :userId AND m.status = 'ACCEPTED'")
+    List<Long> findAcceptedProjectIdsByUserId(@Param("userId") Long userId);
 }
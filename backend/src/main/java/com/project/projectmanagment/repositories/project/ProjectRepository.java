@@ -1,12 +1,86 @@
 package com.project.projectmanagment.repositories.project;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.config.CacheConfig;
 import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.models.project.ProjectDTO;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
+    @Cacheable(cacheNames = CacheConfig.PROJECTS_BY_NAME, key = "#p0", unless = "#result == null")
     Optional<ProjectEntity> findByProjectName(String projectName);
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PROJECTS_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<ProjectEntity> findById(Long projectId);
+
     boolean existsByProjectName(String projectName);
+
+    List<ProjectEntity> findByDeletionStartedAtBefore(Timestamp cutoff);
+
+    @Query("SELECT new com.project.projectmanagment.models.project.ProjectDTO("
+        + "p.projectId, p.projectName, p.projectDescription, p.projectStartDate, p.projectStatus, "
+        + "p.createdBy, c.email, p.version, m.role) "
+        + "FROM ProjectMember m JOIN ProjectEntity p ON p.projectId = m.projectId "
+        + "LEFT JOIN UserEntity c ON c.userId = p.createdBy "
+        + "WHERE m.userId = :userId AND m.status = 'ACCEPTED' AND p.deletionStartedAt IS NULL "
+        + "ORDER BY p.projectId")
+    List<ProjectDTO> findAcceptedProjectsWithRole(@Param("userId") Long userId);
+    Slice<ProjectEntity> findByProjectIdGreaterThan(Long projectId, Pageable pageable);
+
+    // ETag counters; see ProjectVersionTracker. Read past the entity cache, which holds stale values.
+    @Query("SELECT p.listVersion FROM ProjectEntity p WHERE p.projectId = :projectId")
+    Long findListVersion(@Param("projectId") Long projectId);
+
+    @Query("SELECT p.projectId, p.listVersion FROM ProjectEntity p WHERE p.projectId IN :projectIds")
+    List<Object[]> findListVersions(@Param("projectIds") Collection<Long> projectIds);
+
+    // Task writes leave project_tl alone; the task list's state is read from the rows themselves.
+    @Query("SELECT p.listVersion, "
+        + "(SELECT COUNT(t) FROM TaskView t WHERE t.projectId = p.projectId), "
+        + "(SELECT COALESCE(SUM(t.version), 0) FROM TaskView t WHERE t.projectId = p.projectId), "
+        + "(SELECT COUNT(d) FROM TaskTombstone d WHERE d.projectId = p.projectId) "
+        + "FROM ProjectEntity p WHERE p.projectId = :projectId")
+    List<Object[]> findTaskListState(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE ProjectEntity p SET p.listVersion = p.listVersion + 1 WHERE p.projectId IN :projectIds")
+    int incrementListVersions(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query("UPDATE ProjectEntity p SET p.listVersion = p.listVersion + 1")
+    int incrementAllListVersions();
+
+    @Query(value = "SELECT project_id FROM project_tl WHERE task_created_by = :userId "
+        + "UNION SELECT project_id FROM project_member_tl WHERE user_id = :userId "
+        + "UNION SELECT project_id FROM task_view WHERE assigned_to = :userId AND project_id IS NOT NULL",
+        nativeQuery = true)
+    List<Long> findProjectIdsReferencingUser(@Param("userId") Long userId);
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PROJECTS_BY_ID, key = "#p0.projectId", condition = "#p0.projectId != null"),
+        @CacheEvict(cacheNames = CacheConfig.PROJECTS_BY_NAME, key = "#p0.projectName", condition = "#p0.projectName != null")
+    })
+    <S extends ProjectEntity> S save(S project);
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PROJECTS_BY_ID, key = "#p0.projectId", condition = "#p0.projectId != null"),
+        @CacheEvict(cacheNames = CacheConfig.PROJECTS_BY_NAME, key = "#p0.projectName", condition = "#p0.projectName != null")
+    })
+    void delete(ProjectEntity project);
 }
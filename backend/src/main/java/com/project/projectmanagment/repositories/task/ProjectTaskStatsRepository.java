@@ -0,0 +1,41 @@
+package com.project.projectmanagment.repositories.task;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.entities.task.ProjectTaskStats;
+
+@Repository
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, Long> {
+    List<ProjectTaskStats> findByProjectId(Long projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, status, priority, task_count) "
+        + "VALUES (:projectId, :status, :priority, :delta) "
+        + "ON DUPLICATE KEY UPDATE task_count = task_count + :delta", nativeQuery = true)
+    int increment(@Param("projectId") Long projectId, @Param("status") String status,
+        @Param("priority") String priority, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskStats s WHERE s.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT project_id FROM project_task_stats "
+        + "UNION SELECT project_id_fk FROM task_tl WHERE project_id_fk IS NOT NULL ORDER BY 1", nativeQuery = true)
+    List<Long> findProjectIdsToReconcile();
+
+    @Query("SELECT t.taskStatus, t.taskPriority, COUNT(t) FROM TaskEntity t WHERE t.projectId = :projectId "
+        + "AND t.taskStatus IS NOT NULL AND t.taskPriority IS NOT NULL GROUP BY t.taskStatus, t.taskPriority")
+    List<Object[]> countTasks(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.taskStatus, t.taskPriority, COUNT(t) FROM TaskEntity t WHERE t.taskId IN :taskIds "
+        + "AND t.taskStatus IS NOT NULL AND t.taskPriority IS NOT NULL GROUP BY t.taskStatus, t.taskPriority")
+    List<Object[]> countTasksIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT s.status AS status, SUM(s.taskCount) AS total FROM ProjectTaskStats s GROUP BY s.status")
+    List<TaskStatusCount> sumGroupByStatus();
+}
@@ -1,11 +1,31 @@
 package com.project.projectmanagment.repositories.task;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.project.projectmanagment.entities.task.TaskHistory;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
     List<TaskHistory> findByTaskIdOrderByChangedAtDesc(Long taskId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h FROM TaskHistory h WHERE h.taskId IN "
+        + "(SELECT t.taskId FROM TaskEntity t WHERE t.projectId = :projectId) ORDER BY h.taskId, h.changedAt")
+    Stream<TaskHistory> streamByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM TaskHistory h WHERE h.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
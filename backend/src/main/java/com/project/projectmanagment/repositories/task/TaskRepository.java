@@ -1,9 +1,19 @@
 package com.project.projectmanagment.repositories.task;
 
+import java.sql.Date;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.project.projectmanagment.entities.task.TaskEntity;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
@@ -11,5 +21,25 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
     List<TaskEntity> findByAssignedTo(Long userId);
     List<TaskEntity> findByTaskStatus(String status);
     List<TaskEntity> findByProjectIdAndTaskStatus(Long projectId, String status);
-    void deleteByProjectId(Long projectId);
+
+    @Query("SELECT t.taskId FROM TaskEntity t WHERE t.projectId = :projectId ORDER BY t.taskId")
+    List<Long> findTaskIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TaskEntity t WHERE t.projectId = :projectId ORDER BY t.taskId")
+    Stream<TaskEntity> streamByProjectId(@Param("projectId") Long projectId);
+
+    // Status-only write for board drags; a stale version matches no row.
+    @Modifying
+    @Query("UPDATE TaskEntity t SET t.taskStatus = :status, t.updatedAt = :updatedAt, t.modifiedAt = :modifiedAt, "
+        + "t.version = t.version + 1 WHERE t.taskId = :taskId AND t.version = :version")
+    int updateStatus(@Param("taskId") Long taskId, @Param("version") Long version, @Param("status") String status,
+        @Param("updatedAt") Date updatedAt, @Param("modifiedAt") Long modifiedAt);
+
+    @Modifying
+    @Query("DELETE FROM TaskEntity t WHERE t.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
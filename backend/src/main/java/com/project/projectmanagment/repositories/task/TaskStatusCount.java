@@ -0,0 +1,6 @@
+package com.project.projectmanagment.repositories.task;
+
+public interface TaskStatusCount {
+    String getStatus();
+    Long getTotal();
+}
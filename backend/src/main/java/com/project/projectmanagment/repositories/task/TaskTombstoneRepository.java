@@ -0,0 +1,33 @@
+package com.project.projectmanagment.repositories.task;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.entities.task.TaskTombstone;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.projectId = :projectId "
+        + "AND t.deletedAt > :since AND t.deletedAt <= :until ORDER BY t.deletedAt")
+    List<Long> findDeletedTaskIds(@Param("projectId") Long projectId, @Param("since") Long since,
+        @Param("until") Long until);
+
+    @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.deletedAt > :since AND t.deletedAt <= :until")
+    List<Long> findDeletedTaskIdsBetween(@Param("since") Long since, @Param("until") Long until);
+
+    @Query("SELECT t FROM TaskTombstone t WHERE t.deletedAt > :since AND t.deletedAt <= :until ORDER BY t.deletedAt")
+    List<TaskTombstone> findAllDeletedBetween(@Param("since") Long since, @Param("until") Long until);
+
+    @Modifying
+    @Query("INSERT INTO TaskTombstone (taskId, projectId, deletedAt) "
+        + "SELECT t.taskId, t.projectId, :deletedAt FROM TaskEntity t WHERE t.taskId IN :taskIds")
+    int insertForTasks(@Param("taskIds") Collection<Long> taskIds, @Param("deletedAt") Long deletedAt);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") Long cutoff);
+}
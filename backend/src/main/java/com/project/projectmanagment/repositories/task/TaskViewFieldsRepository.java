@@ -0,0 +1,17 @@
+package com.project.projectmanagment.repositories.task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// Sparse-fieldset reads: selects only the named TaskView attributes, one map per row in the
+// order given, ordered by taskId. filterAttribute, when not null, must equal filterValue.
+public interface TaskViewFieldsRepository {
+    List<Map<String, Object>> findFields(Collection<String> fields, String filterAttribute, Object filterValue);
+
+    // Keyset-paged on taskId, like the TaskSummary slices.
+    Slice<Map<String, Object>> findFields(Collection<String> fields, String filterAttribute, Object filterValue,
+        Long afterTaskId, Pageable pageable);
+}
@@ -0,0 +1,72 @@
+package com.project.projectmanagment.repositories.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import com.project.projectmanagment.entities.task.TaskView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskViewFieldsRepositoryImpl implements TaskViewFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(Collection<String> fields, String filterAttribute, Object filterValue) {
+        return toRows(query(fields, filterAttribute, filterValue, null).getResultList(), fields);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findFields(Collection<String> fields, String filterAttribute, Object filterValue,
+            Long afterTaskId, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<Tuple> tuples = query(fields, filterAttribute, filterValue, afterTaskId)
+            .setMaxResults(size + 1)
+            .getResultList();
+        boolean hasNext = tuples.size() > size;
+        return new SliceImpl<>(toRows(hasNext ? tuples.subList(0, size) : tuples, fields), pageable, hasNext);
+    }
+
+    private TypedQuery<Tuple> query(Collection<String> fields, String filterAttribute, Object filterValue,
+            Long afterTaskId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskView> task = query.from(TaskView.class);
+        query.multiselect(fields.stream()
+            .map(field -> task.get(field).alias(field))
+            .collect(Collectors.toList()));
+        List<Predicate> where = new ArrayList<>();
+        if (filterAttribute != null) {
+            where.add(cb.equal(task.get(filterAttribute), filterValue));
+        }
+        if (afterTaskId != null) {
+            where.add(cb.greaterThan(task.<Long>get("taskId"), afterTaskId));
+        }
+        query.where(where.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(task.get("taskId")));
+        return entityManager.createQuery(query);
+    }
+
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples, Collection<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            fields.forEach(field -> row.put(field, tuple.get(field)));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.projectmanagment.repositories.task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.models.task.TaskSummary;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface TaskViewRepository extends JpaRepository<TaskView, Long>, TaskViewFieldsRepository {
+    // List reads select TaskSummary columns only; the description is loaded by findById alone.
+    List<TaskSummary> findAllProjectedBy();
+    List<TaskSummary> findByProjectId(Long projectId);
+    List<TaskSummary> findByAssignedTo(Long userId);
+    List<TaskSummary> findByTaskStatus(String status);
+    List<TaskSummary> findByProjectIdInAndTaskStatus(Collection<Long> projectIds, String status, Pageable pageable);
+    Slice<TaskSummary> findByTaskIdGreaterThan(Long taskId, Pageable pageable);
+    Slice<TaskSummary> findByProjectIdAndTaskIdGreaterThan(Long projectId, Long taskId, Pageable pageable);
+    Slice<TaskSummary> findByTaskStatusAndTaskIdGreaterThan(String status, Long taskId, Pageable pageable);
+    List<TaskSummary> findByTaskIdIn(Collection<Long> taskIds);
+
+    // Full scan for TaskSearchIndex rebuilds.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TaskView t ORDER BY t.taskId")
+    Stream<TaskView> streamAllByOrderByTaskId();
+
+    // Keyset over (modifiedAt, taskId): rows after (since, afterId), where afterId breaks ties
+    // between tasks written in the same millisecond.
+    @Query("SELECT t FROM TaskView t WHERE t.projectId = :projectId AND t.modifiedAt >= :since "
+        + "AND (t.modifiedAt > :since OR t.taskId > :afterId) ORDER BY t.modifiedAt, t.taskId")
+    List<TaskView> findChangedSince(@Param("projectId") Long projectId, @Param("since") Long since,
+        @Param("afterId") Long afterId, Pageable pageable);
+
+    // The same keyset across all projects, bounded by until; see TaskSearchIndex.
+    @Query("SELECT t FROM TaskView t WHERE t.modifiedAt >= :since AND (t.modifiedAt > :since OR t.taskId > :afterId) "
+        + "AND t.modifiedAt <= :until ORDER BY t.modifiedAt, t.taskId")
+    List<TaskView> findAllChangedSince(@Param("since") Long since, @Param("afterId") Long afterId,
+        @Param("until") Long until, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskView t WHERE t.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query("UPDATE TaskView t SET t.projectName = :projectName WHERE t.projectId = :projectId")
+    int updateProjectName(@Param("projectId") Long projectId, @Param("projectName") String projectName);
+
+    @Modifying
+    @Query("UPDATE TaskView t SET t.assignedToName = :name WHERE t.assignedTo = :userId")
+    int updateAssigneeName(@Param("userId") Long userId, @Param("name") String name);
+
+    @Modifying
+    @Query("UPDATE TaskView t SET "
+        + "t.projectName = (SELECT p.projectName FROM ProjectEntity p WHERE p.projectId = t.projectId), "
+        + "t.assignedToName = (SELECT u.name FROM UserEntity u WHERE u.userId = t.assignedTo)")
+    int refreshNames();
+}
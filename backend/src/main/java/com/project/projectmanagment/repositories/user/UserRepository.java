@@ -1,14 +1,48 @@
 package com.project.projectmanagment.repositories.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.project.projectmanagment.config.CacheConfig;
 import com.project.projectmanagment.entities.user.UserEntity;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0", unless = "#result == null")
     Optional<UserEntity> findByEmail(String email);
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<UserEntity> findById(Long userId);
+
     List<UserEntity> findByUserIdIn(List<Long> userIds);
+
+    @Query("SELECT u FROM UserEntity u WHERE LOWER(u.email) IN :emails")
+    List<UserEntity> findByLowercaseEmailIn(@Param("emails") Collection<String> emails);
+
     boolean existsByEmail(String email);
+    Slice<UserEntity> findByUserIdGreaterThan(Long userId, Pageable pageable);
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0.userId", condition = "#p0.userId != null"),
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.email", condition = "#p0.email != null")
+    })
+    <S extends UserEntity> S save(S user);
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0.userId", condition = "#p0.userId != null"),
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.email", condition = "#p0.email != null")
+    })
+    void delete(UserEntity user);
 }
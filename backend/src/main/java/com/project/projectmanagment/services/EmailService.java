@@ -1,8 +1,8 @@
 package com.project.projectmanagment.services;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -13,42 +13,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    public static final String TYPE_PROJECT_INVITATION = "PROJECT_INVITATION";
+    public static final String TYPE_TASK_ASSIGNMENT = "TASK_ASSIGNMENT";
 
-    @Value("${spring.mail.username:noreply@pmt.com}")
-    private String fromEmail;
+    private final MailDispatcher mailDispatcher;
 
     @Value("${app.base-url:http://localhost}")
     private String baseUrl;
 
     public void sendProjectInvitation(String toEmail, String projectName, String invitedBy, String inviteLink) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("You've been invited to project: " + projectName);
-            message.setText(buildInvitationEmail(projectName, invitedBy, baseUrl + inviteLink));
-
-            mailSender.send(message);
-            log.info("Invitation email sent to {} for project '{}'", toEmail, projectName);
-        } catch (Exception e) {
-            log.error("Failed to send invitation email to {}: {}", toEmail, e.getMessage());
-        }
+        mailDispatcher.enqueue(TYPE_PROJECT_INVITATION, toEmail,
+            "You've been invited to project: " + projectName,
+            buildInvitationEmail(projectName, invitedBy, baseUrl + inviteLink));
+        log.info("Invitation email queued for {} for project '{}'", toEmail, projectName);
     }
 
     public void sendTaskAssignmentNotification(String toEmail, String taskName, String projectName) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("New task assigned: " + taskName);
-            message.setText(buildTaskAssignmentEmail(taskName, projectName));
-
-            mailSender.send(message);
-            log.info("Task assignment email sent to {} for task '{}'", toEmail, taskName);
-        } catch (Exception e) {
-            log.error("Failed to send task assignment email to {}: {}", toEmail, e.getMessage());
-        }
+        mailDispatcher.enqueueForDigest(TYPE_TASK_ASSIGNMENT, toEmail,
+            "New task assigned: " + taskName,
+            buildTaskAssignmentEmail(taskName, projectName),
+            taskName + " (" + projectName + ")");
+        log.info("Task assignment email queued for {} for task '{}'", toEmail, taskName);
     }
 
     private String buildInvitationEmail(String projectName, String invitedBy, String inviteLink) {
@@ -82,4 +67,22 @@ public class EmailService {
             PMT Team
             """, taskName, projectName);
     }
+
+    static String buildTaskAssignmentDigest(List<String> items) {
+        StringBuilder lines = new StringBuilder();
+        for (String item : items) {
+            lines.append("  - ").append(item).append("\n");
+        }
+        return String.format("""
+            Hello,
+
+            The following tasks have been assigned to you:
+
+            %s
+            Please log in to PMT to view the task details.
+
+            Best regards,
+            PMT Team
+            """, lines);
+    }
 }
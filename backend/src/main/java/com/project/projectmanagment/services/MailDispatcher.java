@@ -0,0 +1,276 @@
+package com.project.projectmanagment.services;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.entities.notification.NotificationOutbox;
+import com.project.projectmanagment.repositories.notification.NotificationOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class MailDispatcher {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SENDING = "SENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";
+
+    // Column lengths of notification_outbox.
+    static final int SUBJECT_MAX_LENGTH = 255;
+    static final int DIGEST_ITEM_MAX_LENGTH = 500;
+    static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final String fromEmail;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long digestWindowMs;
+    private final long claimLeaseMs;
+    private final long sentRetentionMs;
+
+    public MailDispatcher(NotificationOutboxRepository outboxRepository, JavaMailSender mailSender,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.mail.username:noreply@pmt.com}") String fromEmail,
+            @Value("${app.mail.batch-size:20}") int batchSize,
+            @Value("${app.mail.max-attempts:5}") int maxAttempts,
+            @Value("${app.mail.retry-backoff-ms:30000}") long retryBackoffMs,
+            @Value("${app.mail.assignment-digest-window-ms:60000}") long digestWindowMs,
+            @Value("${app.mail.claim-lease-ms:300000}") long claimLeaseMs,
+            @Value("${app.mail.sent-retention-ms:604800000}") long sentRetentionMs) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fromEmail = fromEmail;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.digestWindowMs = digestWindowMs;
+        this.claimLeaseMs = claimLeaseMs;
+        this.sentRetentionMs = sentRetentionMs;
+    }
+
+    public void enqueue(String notificationType, String recipient, String subject, String body) {
+        save(notificationType, recipient, subject, body, null, 0);
+    }
+
+    public void enqueueForDigest(String notificationType, String recipient, String subject, String body,
+            String digestItem) {
+        save(notificationType, recipient, subject, body, digestItem, digestWindowMs);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize);
+        } catch (Exception e) {
+            log.error("Mail outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    public long getPendingCount() {
+        return outboxRepository.countByStatus(STATUS_PENDING);
+    }
+
+    public long getFailedCount() {
+        return outboxRepository.countByStatus(STATUS_FAILED);
+    }
+
+    // Three steps so no row lock is held across SMTP: a short transaction claims the rows and
+    // leases them as SENDING, the mails go out with no transaction open, and a second short
+    // transaction records the outcome. A dispatcher that dies mid-send leaves its rows SENDING
+    // until the lease runs out, after which claimPending picks them up again.
+    int dispatchBatch() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Claim claim = transactionTemplate.execute(status -> claimBatch(now));
+        if (claim == null || claim.rows().isEmpty()) {
+            return 0;
+        }
+        List<NotificationOutbox> claimed = claim.rows();
+
+        Map<String, List<NotificationOutbox>> groups = new LinkedHashMap<>();
+        for (NotificationOutbox entry : claimed) {
+            String key = entry.getDigestItem() != null
+                ? entry.getNotificationType() + ":" + entry.getRecipient()
+                : "id:" + entry.getId();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+
+        List<List<NotificationOutbox>> grouped = new ArrayList<>(groups.values());
+        List<SimpleMailMessage> messages = new ArrayList<>(grouped.size());
+        for (List<NotificationOutbox> group : grouped) {
+            messages.add(toMessage(group));
+        }
+
+        Map<Object, Exception> failures = send(messages);
+
+        Timestamp sentAt = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < grouped.size(); i++) {
+            Exception failure = failures.get(messages.get(i));
+            for (NotificationOutbox entry : grouped.get(i)) {
+                if (failure == null) {
+                    entry.setStatus(STATUS_SENT);
+                    entry.setSentAt(sentAt);
+                    entry.setLastError(null);
+                } else {
+                    markFailedAttempt(entry, failure, sentAt);
+                }
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.saveAll(claimed));
+
+        log.info("Dispatched {} outbox row(s) as {} mail(s), {} mail(s) failed",
+            claimed.size(), messages.size(), failures.size());
+        return claim.due();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeSent() {
+        int purged = outboxRepository.deleteSentBefore(new Timestamp(System.currentTimeMillis() - sentRetentionMs));
+        if (purged > 0) {
+            log.info("Purged {} sent outbox rows", purged);
+        }
+    }
+
+    private Claim claimBatch(Timestamp now) {
+        List<NotificationOutbox> due = outboxRepository.claimPending(now, batchSize);
+        if (due.isEmpty()) {
+            return new Claim(0, due);
+        }
+
+        List<NotificationOutbox> claimed = new ArrayList<>(due);
+        Set<String> digestRecipients = new HashSet<>();
+        for (NotificationOutbox entry : due) {
+            if (entry.getDigestItem() != null) {
+                digestRecipients.add(entry.getRecipient());
+            }
+        }
+        if (!digestRecipients.isEmpty()) {
+            Set<Long> claimedIds = new HashSet<>();
+            due.forEach(e -> claimedIds.add(e.getId()));
+            for (NotificationOutbox entry : outboxRepository.claimPendingDigestItems(digestRecipients)) {
+                if (claimedIds.add(entry.getId())) {
+                    claimed.add(entry);
+                }
+            }
+        }
+
+        Timestamp leaseExpiry = new Timestamp(now.getTime() + claimLeaseMs);
+        for (NotificationOutbox entry : claimed) {
+            entry.setStatus(STATUS_SENDING);
+            entry.setAvailableAt(leaseExpiry);
+        }
+        outboxRepository.saveAll(claimed);
+        return new Claim(due.size(), claimed);
+    }
+
+    private Map<Object, Exception> send(List<SimpleMailMessage> messages) {
+        try {
+            mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+            return Collections.emptyMap();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(messages, e);
+        } catch (Exception e) {
+            return allFailed(messages, e);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(List<SimpleMailMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private void markFailedAttempt(NotificationOutbox entry, Exception failure, Timestamp now) {
+        int attempts = (entry.getAttempts() != null ? entry.getAttempts() : 0) + 1;
+        entry.setAttempts(attempts);
+        String error = String.valueOf(failure.getMessage());
+        entry.setLastError(truncate(error, LAST_ERROR_MAX_LENGTH));
+        if (attempts >= maxAttempts) {
+            entry.setStatus(STATUS_FAILED);
+            log.error("Giving up on mail {} to {} after {} attempts: {}",
+                entry.getId(), entry.getRecipient(), attempts, error);
+        } else {
+            entry.setStatus(STATUS_PENDING);
+            entry.setAvailableAt(new Timestamp(now.getTime() + (retryBackoffMs << (attempts - 1))));
+        }
+    }
+
+    // Outbox rows are written in the caller's transaction, and a failed insert marks that
+    // transaction rollback-only whether or not the caller catches it. So nothing here may
+    // fail on the row's content: values are fitted to their columns, and a row without a
+    // recipient is dropped before it reaches the database.
+    private void save(String notificationType, String recipient, String subject, String body,
+            String digestItem, long delayMs) {
+        if (recipient == null || recipient.isBlank()) {
+            log.warn("Dropping {} mail without a recipient", notificationType);
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        outboxRepository.save(NotificationOutbox.builder()
+            .notificationType(notificationType)
+            .recipient(recipient)
+            .subject(truncate(subject, SUBJECT_MAX_LENGTH))
+            .body(body)
+            .digestItem(truncate(digestItem, DIGEST_ITEM_MAX_LENGTH))
+            .status(STATUS_PENDING)
+            .attempts(0)
+            .availableAt(new Timestamp(now.getTime() + delayMs))
+            .createdAt(now)
+            .build());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private SimpleMailMessage toMessage(List<NotificationOutbox> group) {
+        NotificationOutbox first = group.get(0);
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo(first.getRecipient());
+        if (group.size() == 1) {
+            message.setSubject(first.getSubject());
+            message.setText(first.getBody());
+        } else {
+            List<String> items = new ArrayList<>(group.size());
+            group.forEach(e -> items.add(e.getDigestItem()));
+            message.setSubject(group.size() + " new tasks assigned to you");
+            message.setText(EmailService.buildTaskAssignmentDigest(items));
+        }
+        return message;
+    }
+
+    private record Claim(int due, List<NotificationOutbox> rows) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.projectmanagment.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
+import com.project.projectmanagment.repositories.task.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectExportService {
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository memberRepository;
+    private final TaskRepository taskRepository;
+    private final TaskHistoryRepository historyRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public Optional<StreamingResponseBody> exportProject(String projectName) {
+        return projectRepository.findByProjectName(projectName)
+            .map(project -> out -> writeExport(project, out));
+    }
+
+    void writeExport(ProjectEntity project, OutputStream out) throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            long lines = transactionTemplate.execute(status -> {
+                long written = writeLine(out, "project", project);
+                for (ProjectMember member : memberRepository.findByProjectId(project.getProjectId())) {
+                    written += writeLine(out, "member", member);
+                }
+                try (Stream<?> tasks = taskRepository.streamByProjectId(project.getProjectId())) {
+                    written += writeAll(out, "task", tasks);
+                }
+                try (Stream<?> history = historyRepository.streamByProjectId(project.getProjectId())) {
+                    written += writeAll(out, "history", history);
+                }
+                return written;
+            });
+            out.flush();
+            log.info("Exported project '{}' ({} lines)", project.getProjectName(), lines);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeAll(OutputStream out, String type, Stream<?> rows) {
+        long written = 0;
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object row = iterator.next();
+            written += writeLine(out, type, row);
+            // Rows are only read once, so keep the persistence context from growing with the project.
+            entityManager.detach(row);
+        }
+        return written;
+    }
+
+    private long writeLine(OutputStream out, String type, Object data) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", type);
+        line.put("data", data);
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,499 @@
+package com.project.projectmanagment.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.project.ProjectImport;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.entities.task.TaskHistory;
+import com.project.projectmanagment.models.project.ImportJob;
+import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.task.TaskImportRecord;
+import com.project.projectmanagment.repositories.project.ProjectImportRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
+import com.project.projectmanagment.repositories.task.TaskRepository;
+import com.project.projectmanagment.repositories.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class ProjectImportService {
+
+    public static final String FORMAT_NDJSON = "NDJSON";
+    public static final String FORMAT_CSV = "CSV";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    static final int CHUNK_SIZE = 500;
+    static final int TASK_NAME_MAX_LENGTH = 255;
+    private static final int MAX_ERRORS = 100;
+    private static final int ERROR_MAX_LENGTH = 255;
+    private static final Set<String> STATUSES = Set.of("TODO", "IN_PROGRESS", "COMPLETED");
+    private static final Set<String> PRIORITIES = Set.of("LOW", "MEDIUM", "HIGH");
+
+    private final ProjectRepository projectRepository;
+    private final ProjectImportRepository importRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskHistoryRepository historyRepository;
+    private final TaskStatsService statsService;
+    private final TaskViewService taskViewService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader recordReader;
+    private final long retentionMs;
+
+    public ProjectImportService(ProjectRepository projectRepository, ProjectImportRepository importRepository,
+            UserRepository userRepository, TaskRepository taskRepository, TaskHistoryRepository historyRepository,
+            TaskStatsService statsService, TaskViewService taskViewService,
+            EntityManager entityManager, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            @Value("${app.import.retention-ms:86400000}") long retentionMs) {
+        this.projectRepository = projectRepository;
+        this.importRepository = importRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.historyRepository = historyRepository;
+        this.statsService = statsService;
+        this.taskViewService = taskViewService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.recordReader = objectMapper.readerFor(TaskImportRecord.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.retentionMs = retentionMs;
+    }
+
+    public ApiResponse importTasks(String projectName, String contentType, InputStream body, Long importedBy) {
+        Optional<ProjectEntity> projectOpt = projectRepository.findByProjectName(projectName);
+        if (projectOpt.isEmpty() || projectOpt.get().getDeletionStartedAt() != null) {
+            return ApiResponse.notFound("Project not found");
+        }
+
+        String format = formatOf(contentType);
+        if (format == null) {
+            return ApiResponse.badRequest("Unsupported content type, use application/x-ndjson or text/csv");
+        }
+
+        ImportJob job = ImportJob.builder()
+            .importId(UUID.randomUUID().toString())
+            .projectName(projectName)
+            .format(format)
+            .status(STATUS_RUNNING)
+            .errors(new CopyOnWriteArrayList<>())
+            .startedAt(new Timestamp(System.currentTimeMillis()))
+            .build();
+        // Stored so that any instance can report on it; progress is saved after each chunk.
+        save(job);
+
+        // Rows are pulled from the request stream one chunk at a time, so a slow
+        // database simply slows down how fast the upload is read.
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RecordSource source = FORMAT_CSV.equals(format) ? new CsvSource(reader) : new NdjsonSource(reader);
+            List<NumberedRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            NumberedRecord next;
+            while ((next = source.next(job)) != null) {
+                chunk.add(next);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(projectOpt.get(), chunk, importedBy, job);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(projectOpt.get(), chunk, importedBy, job);
+            }
+            job.setStatus(STATUS_COMPLETED);
+        } catch (Exception e) {
+            log.error("Import {} into '{}' failed: {}", job.getImportId(), projectName, e.getMessage());
+            job.setStatus(STATUS_FAILED);
+            addError(job, "Import aborted: " + e.getMessage());
+        } finally {
+            job.setFinishedAt(new Timestamp(System.currentTimeMillis()));
+            try {
+                save(job);
+            } catch (RuntimeException e) {
+                log.error("Could not save the status of import {}: {}", job.getImportId(), e.getMessage());
+            }
+        }
+
+        log.info("Import {} into '{}' {}: {} imported, {} failed",
+            job.getImportId(), projectName, job.getStatus(), job.getImported(), job.getFailed());
+        if (STATUS_FAILED.equals(job.getStatus())) {
+            return ApiResponse.builder()
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .message("Import failed after " + job.getImported() + " tasks")
+                .data(job)
+                .build();
+        }
+        return ApiResponse.success("Import completed", job);
+    }
+
+    public ApiResponse getImport(String projectName, String importId) {
+        Optional<ProjectImport> stored = importRepository.findById(importId);
+        if (stored.isEmpty() || !stored.get().getProjectName().equals(projectName)) {
+            return ApiResponse.notFound("Import not found");
+        }
+        return ApiResponse.success(toJob(stored.get()));
+    }
+
+    public ApiResponse getImports(String projectName) {
+        List<ImportJob> projectJobs = importRepository.findTop50ByProjectNameOrderByStartedAtDesc(projectName).stream()
+            .map(this::toJob)
+            .collect(Collectors.toList());
+        return ApiResponse.success(projectJobs);
+    }
+
+    @Scheduled(fixedDelayString = "${app.import.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeImports() {
+        int purged = importRepository.deleteByStartedAtBefore(new Timestamp(System.currentTimeMillis() - retentionMs));
+        if (purged > 0) {
+            log.info("Purged {} import records", purged);
+        }
+    }
+
+    private void writeChunk(ProjectEntity project, List<NumberedRecord> chunk, Long importedBy, ImportJob job) {
+        Set<String> emails = new HashSet<>();
+        for (NumberedRecord row : chunk) {
+            if (row.record.getAssigneeEmail() != null && !row.record.getAssigneeEmail().isBlank()) {
+                emails.add(row.record.getAssigneeEmail().trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        Map<String, Long> userIds = new HashMap<>();
+        if (!emails.isEmpty()) {
+            userRepository.findByLowercaseEmailIn(emails)
+                .forEach(u -> userIds.put(u.getEmail().toLowerCase(Locale.ROOT), u.getUserId()));
+        }
+
+        Date today = new Date(System.currentTimeMillis());
+        List<TaskEntity> tasks = new ArrayList<>(chunk.size());
+        for (NumberedRecord row : chunk) {
+            TaskImportRecord record = row.record;
+            String invalid = validate(record);
+            if (invalid != null) {
+                fail(job, row.number, invalid);
+                continue;
+            }
+            Long assignedTo = record.getAssignedTo();
+            if (record.getAssigneeEmail() != null && !record.getAssigneeEmail().isBlank()) {
+                assignedTo = userIds.get(record.getAssigneeEmail().trim().toLowerCase(Locale.ROOT));
+                if (assignedTo == null) {
+                    fail(job, row.number, "unknown assignee " + record.getAssigneeEmail());
+                    continue;
+                }
+            }
+            tasks.add(TaskEntity.builder()
+                .taskName(record.getTaskName())
+                .taskDescription(record.getTaskDescription())
+                .taskStatus(record.getTaskStatus() != null ? record.getTaskStatus() : "TODO")
+                .taskPriority(record.getTaskPriority() != null ? record.getTaskPriority() : "MEDIUM")
+                .dueDate(record.getDueDate())
+                .projectId(project.getProjectId())
+                .assignedTo(assignedTo)
+                .createdBy(record.getCreatedBy() != null ? record.getCreatedBy() : importedBy)
+                .createdAt(today)
+                .updatedAt(today)
+                .modifiedAt(today.getTime())
+                .build());
+        }
+
+        if (!tasks.isEmpty()) {
+            Timestamp changedAt = new Timestamp(System.currentTimeMillis());
+            transactionTemplate.executeWithoutResult(status -> {
+                List<TaskEntity> saved = taskRepository.saveAll(tasks);
+                List<TaskHistory> history = new ArrayList<>(tasks.size());
+                for (TaskEntity task : saved) {
+                    history.add(TaskHistory.builder()
+                        .taskId(task.getTaskId())
+                        .fieldChanged("CREATED")
+                        .newValue("Task imported")
+                        .changedBy(task.getCreatedBy())
+                        .changedAt(changedAt)
+                        .build());
+                }
+                historyRepository.saveAll(history);
+                taskViewService.save(saved);
+                statsService.recordCreated(saved);
+            });
+            // The request keeps one persistence context open; drop the written chunk from it.
+            entityManager.clear();
+            job.setImported(job.getImported() + tasks.size());
+        }
+        save(job);
+    }
+
+    // Rejects rows the task_tl columns would refuse, so one bad row cannot fail its whole chunk.
+    private String validate(TaskImportRecord record) {
+        if (record.getTaskName() == null || record.getTaskName().isBlank()) {
+            return "task name is required";
+        }
+        if (record.getTaskName().length() > TASK_NAME_MAX_LENGTH) {
+            return "task name is longer than " + TASK_NAME_MAX_LENGTH + " characters";
+        }
+        if (record.getTaskStatus() != null && !STATUSES.contains(record.getTaskStatus())) {
+            return "invalid taskStatus " + record.getTaskStatus();
+        }
+        if (record.getTaskPriority() != null && !PRIORITIES.contains(record.getTaskPriority())) {
+            return "invalid taskPriority " + record.getTaskPriority();
+        }
+        return null;
+    }
+
+    private void save(ImportJob job) {
+        importRepository.save(ProjectImport.builder()
+            .importId(job.getImportId())
+            .projectName(job.getProjectName())
+            .format(job.getFormat())
+            .status(job.getStatus())
+            .processed(job.getProcessed())
+            .imported(job.getImported())
+            .failed(job.getFailed())
+            .errors(String.join("\n", job.getErrors()))
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build());
+    }
+
+    private ImportJob toJob(ProjectImport stored) {
+        return ImportJob.builder()
+            .importId(stored.getImportId())
+            .projectName(stored.getProjectName())
+            .format(stored.getFormat())
+            .status(stored.getStatus())
+            .processed(stored.getProcessed())
+            .imported(stored.getImported())
+            .failed(stored.getFailed())
+            .errors(stored.getErrors() == null || stored.getErrors().isEmpty()
+                ? new ArrayList<>() : new ArrayList<>(Arrays.asList(stored.getErrors().split("\n"))))
+            .startedAt(stored.getStartedAt())
+            .finishedAt(stored.getFinishedAt())
+            .build();
+    }
+
+    private String formatOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        if (type.contains("csv")) {
+            return FORMAT_CSV;
+        }
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json")) {
+            return FORMAT_NDJSON;
+        }
+        return null;
+    }
+
+    private void fail(ImportJob job, long row, String message) {
+        job.setFailed(job.getFailed() + 1);
+        addError(job, "Row " + row + ": " + message);
+    }
+
+    private void addError(ImportJob job, String message) {
+        if (job.getErrors().size() < MAX_ERRORS) {
+            String line = message.replaceAll("[\r\n]+", " ");
+            job.getErrors().add(line.length() > ERROR_MAX_LENGTH ? line.substring(0, ERROR_MAX_LENGTH) : line);
+        }
+    }
+
+    private static final class NumberedRecord {
+        private final long number;
+        private final TaskImportRecord record;
+
+        private NumberedRecord(long number, TaskImportRecord record) {
+            this.number = number;
+            this.record = record;
+        }
+    }
+
+    private interface RecordSource {
+        /** Returns the next parsable row, recording unparsable ones on the job, or null at end of input. */
+        NumberedRecord next(ImportJob job) throws IOException;
+    }
+
+    private final class NdjsonSource implements RecordSource {
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        private NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public NumberedRecord next(ImportJob job) throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(line);
+                } catch (IOException e) {
+                    job.setProcessed(job.getProcessed() + 1);
+                    fail(job, lineNumber, "invalid JSON");
+                    continue;
+                }
+                // Lines from the project export are wrapped as {type, data}; only tasks are imported.
+                if (node.has("type")) {
+                    if (!"task".equals(node.get("type").asText())) {
+                        continue;
+                    }
+                    node = node.get("data");
+                }
+                job.setProcessed(job.getProcessed() + 1);
+                try {
+                    return new NumberedRecord(lineNumber, recordReader.treeToValue(node, TaskImportRecord.class));
+                } catch (IOException | IllegalArgumentException e) {
+                    fail(job, lineNumber, "invalid task record");
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class CsvSource implements RecordSource {
+        private final BufferedReader reader;
+        private List<String> header;
+        private long rowNumber = 1;
+        private boolean eof;
+
+        private CsvSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public NumberedRecord next(ImportJob job) throws IOException {
+            if (header == null) {
+                header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                header.replaceAll(h -> h.trim());
+            }
+            List<String> fields;
+            while ((fields = readRecord()) != null) {
+                rowNumber++;
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                job.setProcessed(job.getProcessed() + 1);
+                try {
+                    return new NumberedRecord(rowNumber, toRecord(fields));
+                } catch (IllegalArgumentException e) {
+                    fail(job, rowNumber, e.getMessage());
+                }
+            }
+            return null;
+        }
+
+        private TaskImportRecord toRecord(List<String> fields) {
+            TaskImportRecord record = new TaskImportRecord();
+            for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                String value = fields.get(i).isEmpty() ? null : fields.get(i);
+                if (value == null) {
+                    continue;
+                }
+                switch (header.get(i)) {
+                    case "taskName" -> record.setTaskName(value);
+                    case "taskDescription" -> record.setTaskDescription(value);
+                    case "taskStatus" -> record.setTaskStatus(value);
+                    case "taskPriority" -> record.setTaskPriority(value);
+                    case "dueDate" -> record.setDueDate(parseDate(value));
+                    case "assignedTo" -> record.setAssignedTo(parseLong("assignedTo", value));
+                    case "assigneeEmail" -> record.setAssigneeEmail(value);
+                    case "createdBy" -> record.setCreatedBy(parseLong("createdBy", value));
+                    default -> { }
+                }
+            }
+            return record;
+        }
+
+        private Date parseDate(String value) {
+            try {
+                return Date.valueOf(value.trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("invalid dueDate " + value);
+            }
+        }
+
+        private Long parseLong(String column, String value) {
+            try {
+                return Long.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid " + column + " " + value);
+            }
+        }
+
+        /** Reads one RFC 4180 record; quoted fields may contain commas, quotes and newlines. */
+        private List<String> readRecord() throws IOException {
+            if (eof) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (c == -1) {
+                eof = true;
+                if (!any) {
+                    return null;
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
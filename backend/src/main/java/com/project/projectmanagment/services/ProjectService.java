@@ -1,19 +1,35 @@
 package com.project.projectmanagment.services;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.project.projectmanagment.config.CacheConfig;
 import com.project.projectmanagment.entities.bridges.ProjectMember;
 import com.project.projectmanagment.entities.project.ProjectEntity;
 import com.project.projectmanagment.entities.user.UserEntity;
 import com.project.projectmanagment.models.project.*;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
 import com.project.projectmanagment.repositories.project.*;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
 import com.project.projectmanagment.repositories.task.TaskRepository;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
 import com.project.projectmanagment.repositories.user.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -28,7 +44,19 @@ public class ProjectService {
     private final ProjectMemberRepository memberRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final TaskHistoryRepository historyRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskStatsService statsService;
+    private final ProjectVersionTracker versionTracker;
+    private final TaskViewService taskViewService;
     private final EmailService emailService;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    @Value("${app.project.delete-resume-after-ms:600000}")
+    private long deleteResumeAfterMs;
 
     @Transactional
     public ApiResponse createProject(ProjectDTO request, String creatorEmail) {
@@ -62,6 +90,7 @@ public class ProjectService {
             .build();
 
         memberRepository.save(adminMember);
+        versionTracker.projectChanged(project.getProjectId());
 
         log.info("Project '{}' created by {}", project.getProjectName(), creatorEmail);
         return ApiResponse.success("Project created successfully", toDTO(project, creator));
@@ -74,6 +103,21 @@ public class ProjectService {
         return ApiResponse.success(projects);
     }
 
+    // Without cursor and limit every project comes back; that form is deprecated and kept for
+    // existing clients.
+    public ApiResponse getAllProjects(String cursor, Integer limit) {
+        if (cursor == null && limit == null) {
+            return getAllProjects();
+        }
+        Long after = CursorPage.decodeCursor(cursor);
+        Slice<ProjectEntity> slice = projectRepository.findByProjectIdGreaterThan(
+            after, CursorPage.pageRequest(limit, "projectId"));
+        List<ProjectDTO> projects = slice.getContent().stream()
+            .map(p -> toDTO(p, null))
+            .collect(Collectors.toList());
+        return ApiResponse.success(CursorPage.of(slice, projects, ProjectEntity::getProjectId));
+    }
+
     public ApiResponse getProjectByName(String projectName) {
         Optional<ProjectEntity> projectOpt = projectRepository.findByProjectName(projectName);
         if (projectOpt.isEmpty()) {
@@ -90,35 +134,37 @@ public class ProjectService {
         return ApiResponse.success(toDTO(projectOpt.get(), null));
     }
 
+    public Optional<String> getUserProjectsETag(String email) {
+        return userRepository.findByEmail(email)
+            .map(u -> versionTracker.projectsTag("user-projects",
+                memberRepository.findAcceptedProjectIdsByUserId(u.getUserId())));
+    }
+
     public ApiResponse getUserProjects(String email) {
         Optional<UserEntity> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
             return ApiResponse.notFound("User not found");
         }
 
-        List<ProjectMember> memberships = memberRepository.findByUserId(userOpt.get().getUserId());
-        List<Long> projectIds = memberships.stream()
-            .filter(m -> "ACCEPTED".equals(m.getStatus()))
-            .map(ProjectMember::getProjectId)
-            .collect(Collectors.toList());
-
-        List<ProjectDTO> projects = projectRepository.findAllById(projectIds).stream()
-            .map(p -> toDTO(p, null))
-            .collect(Collectors.toList());
-
-        return ApiResponse.success(projects);
+        return ApiResponse.success(projectRepository.findAcceptedProjectsWithRole(userOpt.get().getUserId()));
     }
 
     @Transactional
-    public ApiResponse updateProject(String projectName, ProjectDTO request) {
+    @CacheEvict(cacheNames = CacheConfig.PROJECTS_BY_NAME, key = "#projectName")
+    public ApiResponse updateProject(String projectName, ProjectDTO request, Long expectedVersion) {
         Optional<ProjectEntity> projectOpt = projectRepository.findByProjectName(projectName);
         if (projectOpt.isEmpty()) {
             return ApiResponse.notFound("Project not found");
         }
 
         ProjectEntity project = projectOpt.get();
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            return ApiResponse.conflict("Project was modified by another user", toDTO(project, null));
+        }
 
-        if (request.getProjectName() != null && !request.getProjectName().isEmpty()) {
+        boolean renamed = request.getProjectName() != null && !request.getProjectName().isEmpty()
+            && !request.getProjectName().equals(project.getProjectName());
+        if (renamed) {
             project.setProjectName(request.getProjectName());
         }
         if (request.getProjectDescription() != null) {
@@ -132,12 +178,17 @@ public class ProjectService {
             project.setProjectStatusUpdatedDate(new Date(System.currentTimeMillis()));
         }
 
-        projectRepository.save(project);
+        // The cached instance is detached, so the bumped version lives on the merged copy.
+        ProjectEntity saved = projectRepository.save(project);
+        projectRepository.flush();
+        versionTracker.projectChanged(project.getProjectId());
+        if (renamed) {
+            taskViewService.projectRenamed(project.getProjectId(), saved.getProjectName());
+        }
         log.info("Project '{}' updated", projectName);
-        return ApiResponse.success("Project updated successfully", toDTO(project, null));
+        return ApiResponse.success("Project updated successfully", toDTO(saved, null));
     }
 
-    @Transactional
     public ApiResponse deleteProject(String projectName) {
         Optional<ProjectEntity> projectOpt = projectRepository.findByProjectName(projectName);
         if (projectOpt.isEmpty()) {
@@ -145,15 +196,75 @@ public class ProjectService {
         }
 
         ProjectEntity project = projectOpt.get();
-        
-        taskRepository.deleteByProjectId(project.getProjectId());
-        memberRepository.deleteByProjectId(project.getProjectId());
-        projectRepository.delete(project);
+        if (project.getDeletionStartedAt() == null) {
+            project.setDeletionStartedAt(new Timestamp(System.currentTimeMillis()));
+            project = projectRepository.save(project);
+            versionTracker.projectChanged(project.getProjectId());
+        }
+        int deletedTasks = finishDelete(project);
 
-        log.info("Project '{}' deleted", projectName);
+        log.info("Project '{}' deleted with {} tasks", projectName, deletedTasks);
         return ApiResponse.success("Project deleted successfully", null);
     }
 
+    // Picks up deletes that stopped part way, e.g. when the instance running them went down.
+    @Scheduled(fixedDelayString = "${app.project.delete-resume-after-ms:600000}")
+    public void resumeDeletes() {
+        Timestamp cutoff = new Timestamp(System.currentTimeMillis() - deleteResumeAfterMs);
+        for (ProjectEntity project : projectRepository.findByDeletionStartedAtBefore(cutoff)) {
+            try {
+                int deletedTasks = finishDelete(project);
+                log.info("Resumed delete of project '{}': {} remaining tasks deleted", project.getProjectName(),
+                    deletedTasks);
+            } catch (Exception e) {
+                log.error("Resuming delete of project '{}' failed: {}", project.getProjectName(), e.getMessage());
+            }
+        }
+    }
+
+    // Tasks go in short per-chunk transactions, each writing the tombstones that delta sync and
+    // the search index read and taking the tasks out of the stats. The project row is marked
+    // before the first chunk and removed last, so running this again after an interruption
+    // deletes whatever is left.
+    private int finishDelete(ProjectEntity project) {
+        Long projectId = project.getProjectId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int deletedTasks = 0;
+        List<Long> taskIds;
+        do {
+            taskIds = taskRepository.findTaskIdsByProjectId(projectId, PageRequest.of(0, DELETE_CHUNK_SIZE));
+            if (!taskIds.isEmpty()) {
+                List<Long> chunk = taskIds;
+                transactionTemplate.executeWithoutResult(status -> {
+                    tombstoneRepository.insertForTasks(chunk, System.currentTimeMillis());
+                    statsService.recordDeleted(projectId, chunk);
+                    historyRepository.deleteByTaskIdIn(chunk);
+                    taskRepository.deleteByTaskIdIn(chunk);
+                    taskViewService.delete(chunk);
+                    versionTracker.projectChanged(projectId);
+                });
+                deletedTasks += chunk.size();
+            }
+        } while (taskIds.size() == DELETE_CHUNK_SIZE);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            statsService.deleteProject(projectId);
+            deleteMembers(projectId);
+            projectRepository.delete(project);
+            versionTracker.projectChanged(projectId);
+        });
+        return deletedTasks;
+    }
+
+    // Evicts only this project's cached memberships, after the delete commits.
+    private void deleteMembers(Long projectId) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBERS_BY_USER_PROJECT);
+        if (cache != null) {
+            memberRepository.findUserIdsByProjectId(projectId).forEach(userId -> cache.evict(userId + ":" + projectId));
+        }
+        memberRepository.deleteByProjectId(projectId);
+    }
+
     @Transactional
     public ApiResponse inviteMember(InviteRequest request) {
         Optional<UserEntity> userOpt = userRepository.findByEmail(request.getEmail());
@@ -187,6 +298,7 @@ public class ProjectService {
             .build();
 
         memberRepository.save(member);
+        versionTracker.projectChanged(project.getProjectId());
 
         String inviteLink = "/api/project/accept-invite/" + request.getEmail() + "/" + request.getProjectName();
         emailService.sendProjectInvitation(request.getEmail(), request.getProjectName(), 
@@ -230,38 +342,35 @@ public class ProjectService {
         member.setStatus("ACCEPTED");
         member.setJoinedAt(new Date(System.currentTimeMillis()));
         memberRepository.save(member);
+        versionTracker.projectChanged(member.getProjectId());
 
         log.info("User {} accepted invitation to project '{}'", email, projectName);
         return ApiResponse.success("Invitation accepted", null);
     }
 
-    public ApiResponse getProjectMembers(String projectName) {
+    public Optional<String> getProjectMembersETag(String projectName, String status, String cursor, Integer limit) {
+        return projectRepository.findByProjectName(projectName)
+            .map(p -> versionTracker.projectTag("members", p.getProjectId(), status, cursor, limit));
+    }
+
+    // Members and their users come back from one join. Without cursor and limit every member
+    // comes back; that form is deprecated and kept for existing clients.
+    public ApiResponse getProjectMembers(String projectName, String status, String cursor, Integer limit) {
         Optional<ProjectEntity> projectOpt = projectRepository.findByProjectName(projectName);
         if (projectOpt.isEmpty()) {
             return ApiResponse.notFound("Project not found");
         }
 
-        List<ProjectMember> members = memberRepository.findByProjectId(projectOpt.get().getProjectId());
-        List<Long> userIds = members.stream().map(ProjectMember::getUserId).collect(Collectors.toList());
-        List<UserEntity> users = userRepository.findByUserIdIn(userIds);
-
-        List<ProjectMemberDTO> memberDTOs = members.stream().map(m -> {
-            UserEntity user = users.stream()
-                .filter(u -> u.getUserId().equals(m.getUserId()))
-                .findFirst()
-                .orElse(null);
-
-            return ProjectMemberDTO.builder()
-                .userId(m.getUserId())
-                .email(user != null ? user.getEmail() : null)
-                .name(user != null ? user.getName() : null)
-                .role(m.getRole())
-                .status(m.getStatus())
-                .joinedAt(m.getJoinedAt())
-                .build();
-        }).collect(Collectors.toList());
-
-        return ApiResponse.success(memberDTOs);
+        Long projectId = projectOpt.get().getProjectId();
+        String statusFilter = status != null && !status.isBlank() ? status.toUpperCase() : null;
+        if (cursor == null && limit == null) {
+            return ApiResponse.success(memberRepository.findMemberDetails(
+                projectId, statusFilter, 0L, Pageable.unpaged(Sort.by("userId"))).getContent());
+        }
+        Long after = CursorPage.decodeCursor(cursor);
+        Slice<ProjectMemberDTO> slice = memberRepository.findMemberDetails(
+            projectId, statusFilter, after, CursorPage.pageRequest(limit, "userId"));
+        return ApiResponse.success(CursorPage.of(slice, slice.getContent(), ProjectMemberDTO::getUserId));
     }
 
     public ApiResponse getMemberRole(String email, String projectName) {
@@ -292,7 +401,7 @@ public class ProjectService {
     }
 
     @Transactional
-    public ApiResponse updateMemberRole(String email, String projectName, String newRole) {
+    public ApiResponse updateMemberRole(String email, String projectName, String newRole, Long expectedVersion) {
         Optional<UserEntity> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
             return ApiResponse.notFound("User not found");
@@ -311,8 +420,12 @@ public class ProjectService {
         }
 
         ProjectMember member = memberOpt.get();
+        if (expectedVersion != null && !expectedVersion.equals(member.getVersion())) {
+            return ApiResponse.conflict("Membership was modified by another user");
+        }
         member.setRole(validateRole(newRole));
         memberRepository.save(member);
+        versionTracker.projectChanged(member.getProjectId());
 
         log.info("Role updated for {} in project '{}' to {}", email, projectName, newRole);
         return ApiResponse.success("Role updated successfully", null);
@@ -338,6 +451,7 @@ public class ProjectService {
         }
 
         memberRepository.delete(memberOpt.get());
+        versionTracker.projectChanged(memberOpt.get().getProjectId());
         log.info("Member {} removed from project '{}'", email, projectName);
         return ApiResponse.success("Member removed successfully", null);
     }
@@ -368,6 +482,7 @@ public class ProjectService {
             .projectStatus(project.getProjectStatus())
             .createdBy(project.getCreatedBy())
             .creatorEmail(creator != null ? creator.getEmail() : null)
+            .version(project.getVersion())
             .build();
     }
 }
@@ -0,0 +1,124 @@
+package com.project.projectmanagment.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+
+/**
+ * Per-project version counters behind the ETags of the polled list endpoints, stored in
+ * {@code project_tl.list_version} so every application instance derives the same tags.
+ * Project, membership and user changes record the projects they touch; the counters are
+ * bumped in one statement just before the transaction commits, so a tag never advances
+ * without the data it describes. User changes bump every project that shows the user as
+ * creator, member or assignee.
+ *
+ * <p>Task writes never bump a counter, which would make the project row a lock every task
+ * commit in the project waits on. The task list tag instead adds the task rows' own state:
+ * their count and summed versions in {@code task_view}, which move on every create and
+ * update, and the project's tombstone count, which moves on every delete.
+ */
+@Component
+public class ProjectVersionTracker {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectVersionTracker(ProjectRepository projectRepository, PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void projectChanged(Long projectId) {
+        if (projectId != null) {
+            projectsChanged(List.of(projectId));
+        }
+    }
+
+    public void usersChanged(Long userId) {
+        projectsChanged(projectRepository.findProjectIdsReferencingUser(userId));
+    }
+
+    /** Advances every project, for changes whose extent is unknown. */
+    public void allChanged() {
+        transactionTemplate.executeWithoutResult(status -> projectRepository.incrementAllListVersions());
+    }
+
+    /**
+     * Strong ETag for a resource of one project; {@code variant} distinguishes query
+     * parameters such as page cursors that select different representations.
+     */
+    public String projectTag(String resource, Long projectId, Object... variant) {
+        Long version = projectRepository.findListVersion(projectId);
+        return tag(resource + "|" + projectId + "." + (version != null ? version : 0) + "|" + Arrays.toString(variant));
+    }
+
+    public String taskListTag(Long projectId, Object... variant) {
+        List<Object[]> rows = projectRepository.findTaskListState(projectId);
+        String state = rows.isEmpty() ? "0" : Arrays.stream(rows.get(0))
+            .map(String::valueOf)
+            .collect(Collectors.joining("."));
+        return tag("tasks|" + projectId + "." + state + "|" + Arrays.toString(variant));
+    }
+
+    public String projectsTag(String resource, Collection<Long> projectIds, Object... variant) {
+        Map<Long, Long> versions = new HashMap<>();
+        if (!projectIds.isEmpty()) {
+            projectRepository.findListVersions(projectIds).forEach(row -> versions.put((Long) row[0], (Long) row[1]));
+        }
+        String projects = projectIds.stream()
+            .sorted()
+            .distinct()
+            .map(id -> id + "." + versions.getOrDefault(id, 0L))
+            .collect(Collectors.joining(","));
+        return tag(resource + "|" + projects + "|" + Arrays.toString(variant));
+    }
+
+    private String tag(String state) {
+        return "\"" + DigestUtils.md5DigestAsHex(state.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private void projectsChanged(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> projectRepository.incrementListVersions(projectIds));
+            return;
+        }
+        PendingBumps pending = (PendingBumps) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingBumps();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.projectIds.addAll(projectIds);
+    }
+
+    private class PendingBumps implements TransactionSynchronization {
+        private final TreeSet<Long> projectIds = new TreeSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            projectRepository.incrementListVersions(projectIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProjectVersionTracker.this);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.project.projectmanagment.services;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.projectmanagment.entities.task.TaskTombstone;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.models.task.TaskEvent;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans task changes out to Server-Sent Events subscribers of each project. Emitters are
+ * async requests, so idle subscribers hold a connection but no request thread.
+ *
+ * Events are read from the database, not from local writes: every poll reads the task_view
+ * rows and tombstones committed since the last one, so subscribers on any application
+ * instance see changes made on every other. Each poll re-reads the {@code app.sync.settle-ms}
+ * window to catch late commits and skips versions it already sent. A row at version 0 is
+ * reported as created; a task created and updated within one poll arrives as an update.
+ *
+ * Each subscriber has its own queue of at most {@code app.events.queue-capacity} frames,
+ * drained in order by a small shared pool, so a slow client only delays itself. A
+ * subscriber whose queue fills is disconnected and catches up through the /changes feed
+ * when it reconnects.
+ */
+@Component
+@Slf4j
+public class TaskEventBroadcaster {
+
+    private static final int POLL_PAGE_SIZE = 500;
+
+    private final TaskViewRepository viewRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final long timeoutMs;
+    private final int queueCapacity;
+    private final long settleMs;
+    // Only touched by poll(), which never overlaps itself.
+    private long watermark = System.currentTimeMillis();
+    private final Map<String, Long> sent = new HashMap<>();
+
+    public TaskEventBroadcaster(TaskViewRepository viewRepository, TaskTombstoneRepository tombstoneRepository,
+            @Value("${app.events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.events.queue-capacity:100}") int queueCapacity,
+            @Value("${app.events.sender-threads:4}") int senderThreads,
+            @Value("${app.sync.settle-ms:5000}") long settleMs) {
+        this.viewRepository = viewRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+        this.settleMs = settleMs;
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "task-events-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long projectId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(projectId, emitter);
+        return emitter;
+    }
+
+    void register(Long projectId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        subscribers.compute(projectId, (id, set) -> {
+            Set<Subscriber> updated = set != null ? set : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.poll-interval-ms:1000}")
+    public void poll() {
+        long until = System.currentTimeMillis();
+        if (subscribers.isEmpty()) {
+            watermark = until;
+            sent.clear();
+            return;
+        }
+        long from = watermark - settleMs;
+        long since = from;
+        long afterId = Long.MAX_VALUE;
+        List<TaskView> page;
+        do {
+            page = viewRepository.findAllChangedSince(since, afterId, until, PageRequest.of(0, POLL_PAGE_SIZE));
+            for (TaskView view : page) {
+                if (subscribers.containsKey(view.getProjectId())
+                        && sent.putIfAbsent(view.getTaskId() + ":" + view.getVersion(), view.getModifiedAt()) == null) {
+                    publish(TaskEvent.builder()
+                        .type(Long.valueOf(0).equals(view.getVersion()) ? TaskEvent.CREATED : TaskEvent.UPDATED)
+                        .projectId(view.getProjectId())
+                        .taskId(view.getTaskId())
+                        .task(TaskViewService.toDTO(view))
+                        .build());
+                }
+            }
+            if (!page.isEmpty()) {
+                TaskView last = page.get(page.size() - 1);
+                since = last.getModifiedAt();
+                afterId = last.getTaskId();
+            }
+        } while (page.size() == POLL_PAGE_SIZE);
+
+        for (TaskTombstone tombstone : tombstoneRepository.findAllDeletedBetween(from, until)) {
+            if (subscribers.containsKey(tombstone.getProjectId())
+                    && sent.putIfAbsent("deleted:" + tombstone.getId(), tombstone.getDeletedAt()) == null) {
+                publish(TaskEvent.builder()
+                    .type(TaskEvent.DELETED)
+                    .projectId(tombstone.getProjectId())
+                    .taskId(tombstone.getTaskId())
+                    .build());
+            }
+        }
+        watermark = until;
+        sent.values().removeIf(at -> at <= until - settleMs);
+    }
+
+    // Comments keep idle connections open through proxies and surface clients that went away.
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(frame)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    // A built frame is shared by every emitter; the builder itself is not reusable.
+    private void publish(TaskEvent event) {
+        Set<Subscriber> set = subscribers.get(event.getProjectId());
+        if (set == null) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+            .name(event.getType())
+            .data(event, MediaType.APPLICATION_JSON)
+            .build();
+        set.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private class Subscriber {
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean dropped = new AtomicBoolean();
+
+        Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                drop(new IllegalStateException("Event queue full"));
+                return;
+            }
+            frames.add(frame);
+            schedule();
+        }
+
+        // At most one drain per subscriber is queued or running, which keeps its frames in order.
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while ((frame = frames.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!frames.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void drop(Exception e) {
+            if (!dropped.compareAndSet(false, true)) {
+                return;
+            }
+            log.debug("Dropping event subscriber for project {}: {}", projectId, e.getMessage());
+            unsubscribe(this);
+            frames.clear();
+            emitter.completeWithError(e);
+        }
+    }
+}
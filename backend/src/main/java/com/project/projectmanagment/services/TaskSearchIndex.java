@@ -0,0 +1,322 @@
+package com.project.projectmanagment.services;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded Lucene index over task names and descriptions, stored in
+ * {@code app.search.index-dir} (in memory when blank). The index is fed from the database,
+ * not from local writes: every poll indexes the task_view rows and task tombstones written
+ * since the watermark, so each application instance keeps its own complete copy. Lucene's
+ * write lock stops two instances from sharing one directory.
+ *
+ * The watermark is saved with each index commit, so a restart resumes from the last commit.
+ * A failed poll is retried from the same watermark; a failed rebuild clears the watermark,
+ * so polling pauses until the next reconcile rebuilds again. Each poll re-reads the
+ * {@code app.sync.settle-ms} window before the watermark to catch transactions that commit
+ * after their modifiedAt. A full rebuild runs when the index has no usable watermark, when
+ * its document count drifts from task_view's, or on request.
+ */
+@Service
+@Slf4j
+public class TaskSearchIndex {
+
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of("taskName", 2f, "taskDescription", 1f);
+    private static final String WATERMARK = "watermark";
+    private static final int POLL_PAGE_SIZE = 500;
+
+    private final TaskViewRepository viewRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long settleMs;
+    private final long tombstoneRetentionMs;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "task-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Only read and written on the indexer thread.
+    private long watermark;
+
+    public TaskSearchIndex(TaskViewRepository viewRepository, TaskTombstoneRepository tombstoneRepository,
+            EntityManager entityManager, PlatformTransactionManager transactionManager,
+            @Value("${app.search.index-dir:data/task-index}") String indexDir,
+            @Value("${app.sync.settle-ms:5000}") long settleMs,
+            @Value("${app.sync.tombstone-retention-ms:2592000000}") long tombstoneRetentionMs) throws IOException {
+        this.viewRepository = viewRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.settleMs = settleMs;
+        this.tombstoneRetentionMs = tombstoneRetentionMs;
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()));
+        this.searcherManager = new SearcherManager(writer, null);
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            commitData.forEach(entry -> {
+                if (WATERMARK.equals(entry.getKey())) {
+                    watermark = Long.parseLong(entry.getValue());
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} task ids in {@code projectIds} matching {@code text}, best
+     * first. Matches in the name weigh twice those in the description. The query uses the
+     * simple syntax: all terms must match, with "quoted phrases", prefix* and -exclusions.
+     */
+    public List<Long> search(String text, Collection<Long> projectIds, int limit) throws IOException {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(writer.getAnalyzer(), SEARCH_FIELDS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query match = parser.parse(text);
+        if (match == null) {
+            return List.of();
+        }
+        Query query = new BooleanQuery.Builder()
+            .add(match, BooleanClause.Occur.MUST)
+            .add(LongPoint.newSetQuery("projectId", projectIds), BooleanClause.Occur.FILTER)
+            .build();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> taskIds = new ArrayList<>(hits.length);
+            for (ScoreDoc hit : hits) {
+                taskIds.add(storedFields.document(hit.doc).getField("taskId").numericValue().longValue());
+            }
+            return taskIds;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /** Queues a full rebuild from task_view; returns false if one is already queued. */
+    public boolean rebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return false;
+        }
+        submit("rebuild", () -> {
+            rebuildQueued.set(false);
+            rebuildNow();
+        });
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        submit("poll", this::poll);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:60000}")
+    public void commit() {
+        submit("commit", () -> {
+            if (writer.hasUncommittedChanges()) {
+                commitWatermark();
+            }
+        });
+    }
+
+    // Catches what polling cannot see: tasks removed without a tombstone, such as those of a
+    // deleted project, and rows data.sql seeded with old or missing modifiedAt values.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search.reconcile-interval-ms:3600000}",
+        fixedDelayString = "${app.search.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        submit("reconcile", () -> {
+            if (watermark < System.currentTimeMillis() - tombstoneRetentionMs) {
+                log.info("Task search index watermark {} is missing or older than the deletion history; rebuilding",
+                    watermark);
+                rebuildNow();
+                return;
+            }
+            poll();
+            long indexed = writer.getDocStats().numDocs;
+            long tasks = viewRepository.count();
+            if (indexed != tasks) {
+                log.info("Task search index has {} documents for {} tasks; rebuilding", indexed, tasks);
+                rebuildNow();
+            }
+        });
+    }
+
+    /** Blocks until the database changes committed so far are searchable. */
+    void awaitPoll() throws Exception {
+        indexer.submit(() -> {
+            poll();
+            searcherManager.maybeRefreshBlocking();
+            return null;
+        }).get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        indexer.shutdown();
+        indexer.awaitTermination(10, TimeUnit.SECONDS);
+        searcherManager.close();
+        if (writer.hasUncommittedChanges()) {
+            commitWatermark();
+        }
+        writer.close();
+        directory.close();
+    }
+
+    private void poll() throws IOException {
+        if (watermark == 0) {
+            // Never built, or a rebuild failed part way: wait for the next reconcile to rebuild.
+            return;
+        }
+        long until = System.currentTimeMillis();
+        long from = Math.max(watermark - settleMs, 0);
+        long since = from;
+        long afterId = Long.MAX_VALUE;
+        int indexed = 0;
+        List<TaskView> page;
+        do {
+            page = viewRepository.findAllChangedSince(since, afterId, until, PageRequest.of(0, POLL_PAGE_SIZE));
+            for (TaskView view : page) {
+                writer.updateDocument(idTerm(view.getTaskId()), document(view));
+            }
+            if (!page.isEmpty()) {
+                TaskView last = page.get(page.size() - 1);
+                since = last.getModifiedAt();
+                afterId = last.getTaskId();
+                indexed += page.size();
+            }
+        } while (page.size() == POLL_PAGE_SIZE);
+
+        List<Long> deleted = tombstoneRepository.findDeletedTaskIdsBetween(from, until);
+        if (!deleted.isEmpty()) {
+            writer.deleteDocuments(deleted.stream().map(this::idTerm).toArray(Term[]::new));
+        }
+        watermark = until;
+        searcherManager.maybeRefresh();
+        log.debug("Task search index poll: {} indexed, {} deleted", indexed, deleted.size());
+    }
+
+    private void rebuildNow() throws IOException {
+        long started = System.currentTimeMillis();
+        watermark = 0;
+        writer.deleteAll();
+        long count = readOnlyTransaction.execute(status -> {
+            long indexed = 0;
+            try (Stream<TaskView> rows = viewRepository.streamAllByOrderByTaskId()) {
+                Iterator<TaskView> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    TaskView view = iterator.next();
+                    writer.addDocument(document(view));
+                    entityManager.detach(view);
+                    indexed++;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return indexed;
+        });
+        // Rows written while streaming are picked up by the next poll.
+        watermark = started;
+        commitWatermark();
+        searcherManager.maybeRefreshBlocking();
+        log.info("Rebuilt task search index with {} tasks in {} ms", count, System.currentTimeMillis() - started);
+    }
+
+    private void commitWatermark() throws IOException {
+        writer.setLiveCommitData(Map.of(WATERMARK, Long.toString(watermark)).entrySet());
+        writer.commit();
+    }
+
+    private Document document(TaskView view) {
+        Document document = new Document();
+        document.add(new StringField("id", String.valueOf(view.getTaskId()), Field.Store.NO));
+        document.add(new StoredField("taskId", view.getTaskId()));
+        if (view.getProjectId() != null) {
+            document.add(new LongPoint("projectId", view.getProjectId()));
+        }
+        document.add(new TextField("taskName", view.getTaskName() != null ? view.getTaskName() : "", Field.Store.NO));
+        if (view.getTaskDescription() != null) {
+            document.add(new TextField("taskDescription", view.getTaskDescription(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private Term idTerm(Long taskId) {
+        return new Term("id", String.valueOf(taskId));
+    }
+
+    private void submit(String action, IndexTask task) {
+        if (indexer.isShutdown()) {
+            return;
+        }
+        indexer.execute(() -> {
+            try {
+                task.run();
+            } catch (IOException | RuntimeException e) {
+                log.error("Task search index {} failed and will be retried", action, e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+}
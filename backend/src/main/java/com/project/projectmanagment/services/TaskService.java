@@ -1,19 +1,34 @@
 package com.project.projectmanagment.services;
 
+import java.io.IOException;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.projectmanagment.entities.project.ProjectEntity;
 import com.project.projectmanagment.entities.task.TaskEntity;
 import com.project.projectmanagment.entities.task.TaskHistory;
+import com.project.projectmanagment.entities.task.TaskTombstone;
+import com.project.projectmanagment.entities.task.TaskView;
 import com.project.projectmanagment.entities.user.UserEntity;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
 import com.project.projectmanagment.models.task.*;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
 import com.project.projectmanagment.repositories.project.ProjectRepository;
 import com.project.projectmanagment.repositories.task.*;
 import com.project.projectmanagment.repositories.user.UserRepository;
@@ -28,133 +43,356 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final TaskHistoryRepository historyRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskViewRepository viewRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ProjectMemberRepository memberRepository;
     private final EmailService emailService;
+    private final TaskStatsService statsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectVersionTracker versionTracker;
+    private final TaskViewService taskViewService;
+    private final TaskSearchIndex searchIndex;
+
+    private static final int DASHBOARD_MAX_PAGE_SIZE = 100;
+    private static final int BULK_MAX_SIZE = 1000;
+    private static final int SYNC_DEFAULT_LIMIT = 500;
+    private static final int SYNC_MAX_LIMIT = 1000;
+    private static final int SEARCH_DEFAULT_LIMIT = 20;
+    private static final int SEARCH_MAX_LIMIT = 100;
+    private static final Set<String> CLEARABLE_FIELDS = Set.of("taskDescription", "dueDate", "assignedTo");
+    private static final List<String> DASHBOARD_STATUSES = List.of("TODO", "IN_PROGRESS", "COMPLETED");
+    private static final Set<String> LIST_FIELDS = Set.of("taskId", "taskName", "taskStatus", "taskPriority",
+        "dueDate", "projectId", "projectName", "assignedTo", "assignedToName", "createdBy", "createdAt",
+        "updatedAt", "modifiedAt", "version");
+
+    // Writes can commit up to this long after their modifiedAt; the returned watermark trails
+    // by this much so slow commits are picked up by the next sync instead of being skipped.
+    @Value("${app.sync.settle-ms:5000}")
+    private long syncSettleMs;
+
+    @Value("${app.sync.tombstone-retention-ms:2592000000}")
+    private long tombstoneRetentionMs;
 
     @Transactional
     public ApiResponse createTask(CreateTaskRequest request) {
         Optional<ProjectEntity> projectOpt = projectRepository.findById(request.getProjectId());
-        if (projectOpt.isEmpty()) {
+        if (projectOpt.isEmpty() || projectOpt.get().getDeletionStartedAt() != null) {
             return ApiResponse.notFound("Project not found");
         }
 
-        TaskEntity task = TaskEntity.builder()
-            .taskName(request.getTaskName())
-            .taskDescription(request.getTaskDescription())
-            .taskStatus(request.getTaskStatus() != null ? request.getTaskStatus() : "TODO")
-            .taskPriority(request.getTaskPriority() != null ? request.getTaskPriority() : "MEDIUM")
-            .dueDate(request.getDueDate())
-            .projectId(request.getProjectId())
-            .assignedTo(request.getAssignedTo())
-            .createdBy(request.getCreatedBy())
-            .createdAt(new Date(System.currentTimeMillis()))
-            .updatedAt(new Date(System.currentTimeMillis()))
-            .build();
-
-        task = taskRepository.save(task);
+        TaskEntity task = taskRepository.save(newTask(request));
+        statsService.recordCreated(Collections.singletonList(task));
 
         recordHistory(task.getTaskId(), "CREATED", null, "Task created", request.getCreatedBy());
 
+        TaskDTO dto = taskViewService.save(Collections.singletonList(task)).get(0);
+        publish(TaskEvent.CREATED, dto);
+
         log.info("Task '{}' created in project {}", task.getTaskName(), request.getProjectId());
-        return ApiResponse.success("Task created successfully", toDTO(task));
+        return ApiResponse.success("Task created successfully", dto);
     }
 
-    public ApiResponse getAllTasks() {
-        List<TaskDTO> tasks = taskRepository.findAll().stream()
-            .map(this::toDTO)
+    @Transactional
+    public ApiResponse createTasks(List<CreateTaskRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return ApiResponse.badRequest("No tasks provided");
+        }
+        if (requests.size() > BULK_MAX_SIZE) {
+            return ApiResponse.badRequest("At most " + BULK_MAX_SIZE + " tasks per request");
+        }
+
+        Set<Long> projectIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            if (request == null || request.getTaskName() == null || request.getTaskName().isBlank()) {
+                return ApiResponse.badRequest("Task " + i + ": task name is required");
+            }
+            if (request.getProjectId() == null) {
+                return ApiResponse.badRequest("Task " + i + ": project id is required");
+            }
+            projectIds.add(request.getProjectId());
+        }
+
+        Set<Long> missingProjects = new HashSet<>(projectIds);
+        projectRepository.findAllById(projectIds).stream()
+            .filter(p -> p.getDeletionStartedAt() == null)
+            .forEach(p -> missingProjects.remove(p.getProjectId()));
+        if (!missingProjects.isEmpty()) {
+            return ApiResponse.notFound("Project not found: " + missingProjects);
+        }
+
+        List<TaskEntity> tasks = taskRepository.saveAll(
+            requests.stream().map(this::newTask).collect(Collectors.toList()));
+        statsService.recordCreated(tasks);
+
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        List<TaskHistory> history = tasks.stream()
+            .map(t -> historyEntry(t.getTaskId(), "CREATED", null, "Task created", t.getCreatedBy(), createdAt))
             .collect(Collectors.toList());
-        return ApiResponse.success(tasks);
+        historyRepository.saveAll(history);
+
+        List<TaskDTO> dtos = taskViewService.save(tasks);
+        dtos.forEach(dto -> publish(TaskEvent.CREATED, dto));
+
+        log.info("{} tasks created in bulk across projects {}", tasks.size(), projectIds);
+        return ApiResponse.success(tasks.size() + " tasks created successfully", dtos);
+    }
+
+    public ApiResponse getAllTasks(String cursor, Integer limit, String fields) {
+        return list(fields, cursor, limit, null, null, viewRepository::findAllProjectedBy,
+            (after, page) -> viewRepository.findByTaskIdGreaterThan(after, page));
     }
 
     public ApiResponse getTaskById(Long taskId) {
-        Optional<TaskEntity> taskOpt = taskRepository.findById(taskId);
+        Optional<TaskView> taskOpt = viewRepository.findById(taskId);
         if (taskOpt.isEmpty()) {
             return ApiResponse.notFound("Task not found");
         }
-        return ApiResponse.success(toDTO(taskOpt.get()));
+        return ApiResponse.success(TaskViewService.toDTO(taskOpt.get()));
     }
 
-    public ApiResponse getTasksByProject(Long projectId) {
-        List<TaskDTO> tasks = taskRepository.findByProjectId(projectId).stream()
-            .map(this::toDTO)
-            .collect(Collectors.toList());
-        return ApiResponse.success(tasks);
+    public ApiResponse getTasksByProject(Long projectId, String cursor, Integer limit, String fields) {
+        return list(fields, cursor, limit, "projectId", projectId,
+            () -> viewRepository.findByProjectId(projectId),
+            (after, page) -> viewRepository.findByProjectIdAndTaskIdGreaterThan(projectId, after, page));
+    }
+
+    public String getTasksByProjectETag(Long projectId, String cursor, Integer limit, String fields) {
+        return versionTracker.taskListTag(projectId, cursor, limit, fields);
     }
 
-    public ApiResponse getTasksByProjectName(String projectName) {
+    public ApiResponse getTasksByProjectName(String projectName, String fields) {
         Optional<ProjectEntity> projectOpt = projectRepository.findByProjectName(projectName);
         if (projectOpt.isEmpty()) {
             return ApiResponse.notFound("Project not found");
         }
-        return getTasksByProject(projectOpt.get().getProjectId());
+        return getTasksByProject(projectOpt.get().getProjectId(), null, null, fields);
     }
 
-    public ApiResponse getTasksByUser(Long userId) {
-        List<TaskDTO> tasks = taskRepository.findByAssignedTo(userId).stream()
-            .map(this::toDTO)
-            .collect(Collectors.toList());
-        return ApiResponse.success(tasks);
+    public ApiResponse getTasksByUser(Long userId, String fields) {
+        return list(fields, null, null, "assignedTo", userId, () -> viewRepository.findByAssignedTo(userId), null);
     }
 
-    public ApiResponse getTasksByStatus(String status) {
-        List<TaskDTO> tasks = taskRepository.findByTaskStatus(status.toUpperCase()).stream()
-            .map(this::toDTO)
-            .collect(Collectors.toList());
-        return ApiResponse.success(tasks);
+    public ApiResponse getTasksByStatus(String status, String cursor, Integer limit, String fields) {
+        String taskStatus = status.toUpperCase();
+        return list(fields, cursor, limit, "taskStatus", taskStatus,
+            () -> viewRepository.findByTaskStatus(taskStatus),
+            (after, page) -> viewRepository.findByTaskStatusAndTaskIdGreaterThan(taskStatus, after, page));
+    }
+
+    // Ranked by the search index over the caller's accepted projects, then read from task_view;
+    // hits deleted since the last index refresh are dropped.
+    public ApiResponse searchTasks(String query, Long userId, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return ApiResponse.badRequest("Search query is required");
+        }
+        int size = limit == null ? SEARCH_DEFAULT_LIMIT : Math.min(Math.max(limit, 1), SEARCH_MAX_LIMIT);
+        List<Long> taskIds;
+        try {
+            taskIds = searchIndex.search(query, memberRepository.findAcceptedProjectIdsByUserId(userId), size);
+        } catch (IOException e) {
+            log.error("Task search failed for query '{}'", query, e);
+            return ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE, "Task search is unavailable");
+        }
+        if (taskIds.isEmpty()) {
+            return ApiResponse.success(Collections.emptyList());
+        }
+        Map<Long, TaskSummary> found = new HashMap<>();
+        viewRepository.findByTaskIdIn(taskIds).forEach(task -> found.put(task.getTaskId(), task));
+        return ApiResponse.success(taskIds.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .map(TaskViewService::toDTO)
+            .collect(Collectors.toList()));
+    }
+
+    public ApiResponse rebuildSearchIndex() {
+        String message = searchIndex.rebuild() ? "Search index rebuild started" : "Search index rebuild already queued";
+        return ApiResponse.builder().status(HttpStatus.ACCEPTED).message(message).build();
+    }
+
+    // Keyset-paged on taskId. Without cursor and limit the whole list comes back; that form is
+    // deprecated and kept for existing clients. Rows are TaskSummary projections, so list
+    // responses never carry the description. With ?fields= only the requested columns are
+    // selected, filtered on filterAttribute as the all and page queries are.
+    private ApiResponse list(String fields, String cursor, Integer limit, String filterAttribute, Object filterValue,
+            Supplier<List<TaskSummary>> all, BiFunction<Long, Pageable, Slice<TaskSummary>> page) {
+        Set<String> selected;
+        try {
+            selected = parseFields(fields);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        }
+        if (cursor == null && limit == null) {
+            return ApiResponse.success(selected == null
+                ? toDTOs(all.get())
+                : viewRepository.findFields(selected, filterAttribute, filterValue));
+        }
+        Long after = CursorPage.decodeCursor(cursor);
+        Pageable pageable = CursorPage.pageRequest(limit, "taskId");
+        if (selected != null) {
+            Slice<Map<String, Object>> rows =
+                viewRepository.findFields(selected, filterAttribute, filterValue, after, pageable);
+            return ApiResponse.success(CursorPage.of(rows, rows.getContent(), row -> (Long) row.get("taskId")));
+        }
+        Slice<TaskSummary> slice = page.apply(after, pageable);
+        return ApiResponse.success(CursorPage.of(slice, toDTOs(slice.getContent()), TaskSummary::getTaskId));
+    }
+
+    @Transactional
+    public ApiResponse updateTask(Long taskId, CreateTaskRequest request, Long updatedBy, Long expectedVersion) {
+        return applyUpdate(taskId, expectedVersion,
+            (task, changedAt) -> applyChanges(task, request, updatedBy, changedAt));
+    }
+
+    // Board drags change only the status. The task is read from task_view, and task_tl gets one
+    // UPDATE guarded by that row's version, so no task entity is loaded. If the task moved on
+    // since the read, or has no task_view row, the full update path re-reads and decides.
+    @Transactional
+    public ApiResponse updateTaskStatus(Long taskId, String status, Long updatedBy, Long expectedVersion) {
+        if (status == null || status.isBlank()) {
+            return ApiResponse.badRequest("Status is required");
+        }
+        CreateTaskRequest change = CreateTaskRequest.builder().taskStatus(status).build();
+        Optional<TaskView> viewOpt = viewRepository.findById(taskId);
+        if (viewOpt.isPresent()) {
+            TaskView view = viewOpt.get();
+            if (expectedVersion != null && !expectedVersion.equals(view.getVersion())) {
+                return ApiResponse.conflict("Task was modified by another user", TaskViewService.toDTO(view));
+            }
+            Timestamp changedAt = new Timestamp(System.currentTimeMillis());
+            Date updatedAt = new Date(changedAt.getTime());
+            if (taskRepository.updateStatus(taskId, view.getVersion(), status, updatedAt, changedAt.getTime()) == 1) {
+                String oldStatus = view.getTaskStatus();
+                if (!status.equals(oldStatus)) {
+                    historyRepository.save(historyEntry(taskId, "taskStatus", oldStatus, status, updatedBy, changedAt));
+                    TaskStatsService.StatsKey before =
+                        new TaskStatsService.StatsKey(view.getProjectId(), oldStatus, view.getTaskPriority());
+                    TaskStatsService.StatsKey after =
+                        new TaskStatsService.StatsKey(view.getProjectId(), status, view.getTaskPriority());
+                    statsService.recordChanged(Collections.singletonList(before), Collections.singletonList(after));
+                }
+                view.setTaskStatus(status);
+                view.setUpdatedAt(updatedAt);
+                view.setModifiedAt(changedAt.getTime());
+                view.setVersion(view.getVersion() + 1);
+                TaskDTO dto = TaskViewService.toDTO(view);
+                publish(TaskEvent.UPDATED, dto);
+                log.info("Task {} moved to {}", taskId, status);
+                return ApiResponse.success("Task updated successfully", dto);
+            }
+        }
+        return applyUpdate(taskId, expectedVersion,
+            (task, changedAt) -> applyChanges(task, change, updatedBy, changedAt));
     }
 
+    // JSON merge patch (RFC 7386): absent fields are untouched, null clears a nullable field.
     @Transactional
-    public ApiResponse updateTask(Long taskId, CreateTaskRequest request, Long updatedBy) {
+    public ApiResponse patchTask(Long taskId, Map<String, Object> patch, Long updatedBy, Long expectedVersion) {
+        if (patch == null || patch.isEmpty()) {
+            return ApiResponse.badRequest("Patch is empty");
+        }
+        CreateTaskRequest changes = new CreateTaskRequest();
+        Set<String> cleared = new HashSet<>();
+        try {
+            patch.forEach((field, value) -> readPatchField(changes, cleared, field, value));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        }
+        return applyUpdate(taskId, expectedVersion, (task, changedAt) -> {
+            List<TaskHistory> history = applyChanges(task, changes, updatedBy, changedAt);
+            history.addAll(clearFields(task, cleared, updatedBy, changedAt));
+            return history;
+        });
+    }
+
+    // A stale expectedVersion is rejected before diffing so no history is written
+    // against an outdated read; a concurrent commit after the read fails on flush.
+    private ApiResponse applyUpdate(Long taskId, Long expectedVersion,
+            BiFunction<TaskEntity, Timestamp, List<TaskHistory>> changes) {
         Optional<TaskEntity> taskOpt = taskRepository.findById(taskId);
         if (taskOpt.isEmpty()) {
             return ApiResponse.notFound("Task not found");
         }
 
         TaskEntity task = taskOpt.get();
-
-        if (request.getTaskName() != null && !request.getTaskName().equals(task.getTaskName())) {
-            recordHistory(taskId, "taskName", task.getTaskName(), request.getTaskName(), updatedBy);
-            task.setTaskName(request.getTaskName());
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            return ApiResponse.conflict("Task was modified by another user",
+                viewRepository.findById(taskId).map(TaskViewService::toDTO).orElse(null));
         }
+        TaskStatsService.StatsKey before = TaskStatsService.keyOf(task);
+        List<TaskHistory> history = changes.apply(task, new Timestamp(System.currentTimeMillis()));
 
-        if (request.getTaskDescription() != null && !request.getTaskDescription().equals(task.getTaskDescription())) {
-            recordHistory(taskId, "taskDescription", task.getTaskDescription(), request.getTaskDescription(), updatedBy);
-            task.setTaskDescription(request.getTaskDescription());
-        }
+        taskRepository.save(task);
+        historyRepository.saveAll(history);
+        // Flushing bumps the version now, so the returned DTO carries the one to send next.
+        taskRepository.flush();
+        statsService.recordChanged(Collections.singletonList(before),
+            Collections.singletonList(TaskStatsService.keyOf(task)));
 
-        if (request.getTaskStatus() != null && !request.getTaskStatus().equals(task.getTaskStatus())) {
-            recordHistory(taskId, "taskStatus", task.getTaskStatus(), request.getTaskStatus(), updatedBy);
-            task.setTaskStatus(request.getTaskStatus());
+        TaskDTO dto = taskViewService.save(Collections.singletonList(task)).get(0);
+        publish(TaskEvent.UPDATED, dto);
+
+        log.info("Task {} updated", taskId);
+        return ApiResponse.success("Task updated successfully", dto);
+    }
+
+    @Transactional
+    public ApiResponse updateTasks(List<BulkTaskUpdate> updates, Long updatedBy) {
+        if (updates == null || updates.isEmpty()) {
+            return ApiResponse.badRequest("No tasks provided");
+        }
+        if (updates.size() > BULK_MAX_SIZE) {
+            return ApiResponse.badRequest("At most " + BULK_MAX_SIZE + " tasks per request");
         }
 
-        if (request.getTaskPriority() != null && !request.getTaskPriority().equals(task.getTaskPriority())) {
-            recordHistory(taskId, "taskPriority", task.getTaskPriority(), request.getTaskPriority(), updatedBy);
-            task.setTaskPriority(request.getTaskPriority());
+        Set<Long> taskIds = new LinkedHashSet<>();
+        for (int i = 0; i < updates.size(); i++) {
+            BulkTaskUpdate update = updates.get(i);
+            if (update == null || update.getTaskId() == null || update.getChanges() == null) {
+                return ApiResponse.badRequest("Task " + i + ": task id and changes are required");
+            }
+            taskIds.add(update.getTaskId());
         }
 
-        if (request.getDueDate() != null && !request.getDueDate().equals(task.getDueDate())) {
-            recordHistory(taskId, "dueDate", 
-                task.getDueDate() != null ? task.getDueDate().toString() : null, 
-                request.getDueDate().toString(), updatedBy);
-            task.setDueDate(request.getDueDate());
+        Map<Long, TaskEntity> tasks = new LinkedHashMap<>();
+        taskRepository.findAllById(taskIds).forEach(t -> tasks.put(t.getTaskId(), t));
+        Set<Long> missingTasks = new HashSet<>(taskIds);
+        missingTasks.removeAll(tasks.keySet());
+        if (!missingTasks.isEmpty()) {
+            return ApiResponse.notFound("Task not found: " + missingTasks);
+        }
+        List<Long> staleTasks = updates.stream()
+            .filter(u -> u.getVersion() != null && !u.getVersion().equals(tasks.get(u.getTaskId()).getVersion()))
+            .map(BulkTaskUpdate::getTaskId)
+            .collect(Collectors.toList());
+        if (!staleTasks.isEmpty()) {
+            return ApiResponse.conflict("Task was modified by another user: " + staleTasks);
         }
 
-        if (request.getAssignedTo() != null && !request.getAssignedTo().equals(task.getAssignedTo())) {
-            recordHistory(taskId, "assignedTo", 
-                task.getAssignedTo() != null ? task.getAssignedTo().toString() : null, 
-                request.getAssignedTo().toString(), updatedBy);
-            task.setAssignedTo(request.getAssignedTo());
-            
-            // US11: Send email notification when task is assigned
-            sendAssignmentNotification(request.getAssignedTo(), task.getTaskName(), task.getProjectId());
+        List<TaskStatsService.StatsKey> before = tasks.values().stream()
+            .map(TaskStatsService::keyOf)
+            .collect(Collectors.toList());
+        Timestamp changedAt = new Timestamp(System.currentTimeMillis());
+        List<TaskHistory> history = new ArrayList<>();
+        for (BulkTaskUpdate update : updates) {
+            history.addAll(applyChanges(tasks.get(update.getTaskId()), update.getChanges(), updatedBy, changedAt));
         }
 
-        task.setUpdatedAt(new Date(System.currentTimeMillis()));
-        taskRepository.save(task);
+        List<TaskEntity> saved = taskRepository.saveAll(tasks.values());
+        historyRepository.saveAll(history);
+        taskRepository.flush();
+        statsService.recordChanged(before, tasks.values().stream()
+            .map(TaskStatsService::keyOf)
+            .collect(Collectors.toList()));
 
-        log.info("Task {} updated", taskId);
-        return ApiResponse.success("Task updated successfully", toDTO(task));
+        List<TaskDTO> dtos = taskViewService.save(saved);
+        dtos.forEach(dto -> publish(TaskEvent.UPDATED, dto));
+
+        log.info("{} tasks updated in bulk", saved.size());
+        return ApiResponse.success(saved.size() + " tasks updated successfully", dtos);
     }
 
     @Transactional
@@ -165,64 +403,239 @@ public class TaskService {
         }
 
         taskRepository.delete(taskOpt.get());
+        taskViewService.delete(Collections.singletonList(taskId));
+        if (taskOpt.get().getProjectId() != null) {
+            tombstoneRepository.save(TaskTombstone.builder()
+                .taskId(taskId)
+                .projectId(taskOpt.get().getProjectId())
+                .deletedAt(System.currentTimeMillis())
+                .build());
+        }
+        statsService.recordDeleted(taskOpt.get());
+        eventPublisher.publishEvent(TaskEvent.builder()
+            .type(TaskEvent.DELETED)
+            .projectId(taskOpt.get().getProjectId())
+            .taskId(taskId)
+            .build());
         log.info("Task {} deleted", taskId);
         return ApiResponse.success("Task deleted successfully", null);
     }
 
+    public ApiResponse getTaskChanges(Long projectId, Long since, String cursor, Integer limit) {
+        long now = System.currentTimeMillis();
+        long from = since != null ? Math.max(since, 0) : 0;
+        if (from > 0 && from < now - tombstoneRetentionMs) {
+            return ApiResponse.error(HttpStatus.GONE, "Watermark is older than the deletion history; resync from since=0");
+        }
+        Long afterId = cursor != null ? CursorPage.decodeCursor(cursor) : Long.MAX_VALUE;
+        if (projectRepository.findById(projectId).isEmpty()) {
+            return ApiResponse.notFound("Project not found");
+        }
+
+        int size = limit == null ? SYNC_DEFAULT_LIMIT : Math.min(Math.max(limit, 1), SYNC_MAX_LIMIT);
+        List<TaskView> changed = viewRepository.findChangedSince(projectId, from, afterId, PageRequest.of(0, size + 1));
+        boolean hasMore = changed.size() > size;
+
+        long nextSince;
+        String nextCursor = null;
+        if (hasMore) {
+            changed = changed.subList(0, size);
+            TaskView last = changed.get(size - 1);
+            nextSince = last.getModifiedAt();
+            nextCursor = CursorPage.encodeCursor(last.getTaskId());
+        } else {
+            nextSince = Math.max(from, now - syncSettleMs);
+        }
+
+        return ApiResponse.success(TaskChanges.builder()
+            .tasks(changed.stream().map(TaskViewService::toDTO).collect(Collectors.toList()))
+            .deleted(tombstoneRepository.findDeletedTaskIds(projectId, from, nextSince))
+            .since(nextSince)
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build());
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.tombstone-purge-interval-ms:86400000}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteByDeletedAtBefore(System.currentTimeMillis() - tombstoneRetentionMs);
+        if (purged > 0) {
+            log.info("Purged {} task tombstones", purged);
+        }
+    }
+
+    public ApiResponse getTaskStats(Long projectId) {
+        return statsService.getProjectStats(projectId);
+    }
+
     public ApiResponse getTaskHistory(Long taskId) {
         List<TaskHistory> history = historyRepository.findByTaskIdOrderByChangedAtDesc(taskId);
         return ApiResponse.success(history);
     }
 
-    public ApiResponse getDashboardStats(String email) {
+    public ApiResponse getDashboardStats(String email, int page, int size) {
         Optional<UserEntity> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
             return ApiResponse.notFound("User not found");
         }
 
-        List<TaskEntity> allTasks = taskRepository.findAll();
-        
-        long todoCount = allTasks.stream().filter(t -> "TODO".equals(t.getTaskStatus())).count();
-        long inProgressCount = allTasks.stream().filter(t -> "IN_PROGRESS".equals(t.getTaskStatus())).count();
-        long completedCount = allTasks.stream().filter(t -> "COMPLETED".equals(t.getTaskStatus())).count();
+        Map<String, Long> counts = statsService.countByStatus();
+        long totalTasks = counts.values().stream().mapToLong(Long::longValue).sum();
         long totalProjects = projectRepository.count();
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalProjects", totalProjects);
-        stats.put("todoTasks", todoCount);
-        stats.put("inProgressTasks", inProgressCount);
-        stats.put("completedTasks", completedCount);
-        stats.put("totalTasks", allTasks.size());
+        stats.put("todoTasks", counts.getOrDefault("TODO", 0L));
+        stats.put("inProgressTasks", counts.getOrDefault("IN_PROGRESS", 0L));
+        stats.put("completedTasks", counts.getOrDefault("COMPLETED", 0L));
+        stats.put("totalTasks", totalTasks);
+
+        List<Long> projectIds = memberRepository.findAcceptedProjectIdsByUserId(userOpt.get().getUserId());
+        Pageable pageable = PageRequest.of(Math.max(page, 0),
+            Math.min(Math.max(size, 1), DASHBOARD_MAX_PAGE_SIZE), Sort.by(Sort.Direction.DESC, "taskId"));
+
+        Map<String, List<TaskSummary>> pagedTasks = new LinkedHashMap<>();
+        for (String status : DASHBOARD_STATUSES) {
+            pagedTasks.put(status, projectIds.isEmpty()
+                ? Collections.emptyList()
+                : viewRepository.findByProjectIdInAndTaskStatus(projectIds, status, pageable));
+        }
 
         Map<String, List<TaskDTO>> tasksByStatus = new HashMap<>();
-        tasksByStatus.put("TODO", allTasks.stream()
-            .filter(t -> "TODO".equals(t.getTaskStatus()))
-            .map(this::toDTO)
-            .collect(Collectors.toList()));
-        tasksByStatus.put("IN_PROGRESS", allTasks.stream()
-            .filter(t -> "IN_PROGRESS".equals(t.getTaskStatus()))
-            .map(this::toDTO)
-            .collect(Collectors.toList()));
-        tasksByStatus.put("COMPLETED", allTasks.stream()
-            .filter(t -> "COMPLETED".equals(t.getTaskStatus()))
-            .map(this::toDTO)
-            .collect(Collectors.toList()));
+        pagedTasks.forEach((status, tasks) -> tasksByStatus.put(status, toDTOs(tasks)));
 
         stats.put("tasksByStatus", tasksByStatus);
 
         return ApiResponse.success(stats);
     }
 
+    private TaskEntity newTask(CreateTaskRequest request) {
+        return TaskEntity.builder()
+            .taskName(request.getTaskName())
+            .taskDescription(request.getTaskDescription())
+            .taskStatus(request.getTaskStatus() != null ? request.getTaskStatus() : "TODO")
+            .taskPriority(request.getTaskPriority() != null ? request.getTaskPriority() : "MEDIUM")
+            .dueDate(request.getDueDate())
+            .projectId(request.getProjectId())
+            .assignedTo(request.getAssignedTo())
+            .createdBy(request.getCreatedBy())
+            .createdAt(new Date(System.currentTimeMillis()))
+            .updatedAt(new Date(System.currentTimeMillis()))
+            .modifiedAt(System.currentTimeMillis())
+            .build();
+    }
+
+    private List<TaskHistory> applyChanges(TaskEntity task, CreateTaskRequest request, Long updatedBy,
+            Timestamp changedAt) {
+        Long taskId = task.getTaskId();
+        List<TaskHistory> history = new ArrayList<>();
+
+        if (request.getTaskName() != null && !request.getTaskName().equals(task.getTaskName())) {
+            history.add(historyEntry(taskId, "taskName", task.getTaskName(), request.getTaskName(), updatedBy, changedAt));
+            task.setTaskName(request.getTaskName());
+        }
+
+        if (request.getTaskDescription() != null && !request.getTaskDescription().equals(task.getTaskDescription())) {
+            history.add(historyEntry(taskId, "taskDescription", task.getTaskDescription(), request.getTaskDescription(), updatedBy, changedAt));
+            task.setTaskDescription(request.getTaskDescription());
+        }
+
+        if (request.getTaskStatus() != null && !request.getTaskStatus().equals(task.getTaskStatus())) {
+            history.add(historyEntry(taskId, "taskStatus", task.getTaskStatus(), request.getTaskStatus(), updatedBy, changedAt));
+            task.setTaskStatus(request.getTaskStatus());
+        }
+
+        if (request.getTaskPriority() != null && !request.getTaskPriority().equals(task.getTaskPriority())) {
+            history.add(historyEntry(taskId, "taskPriority", task.getTaskPriority(), request.getTaskPriority(), updatedBy, changedAt));
+            task.setTaskPriority(request.getTaskPriority());
+        }
+
+        if (request.getDueDate() != null && !request.getDueDate().equals(task.getDueDate())) {
+            history.add(historyEntry(taskId, "dueDate", 
+                task.getDueDate() != null ? task.getDueDate().toString() : null, 
+                request.getDueDate().toString(), updatedBy, changedAt));
+            task.setDueDate(request.getDueDate());
+        }
+
+        if (request.getAssignedTo() != null && !request.getAssignedTo().equals(task.getAssignedTo())) {
+            history.add(historyEntry(taskId, "assignedTo", 
+                task.getAssignedTo() != null ? task.getAssignedTo().toString() : null, 
+                request.getAssignedTo().toString(), updatedBy, changedAt));
+            task.setAssignedTo(request.getAssignedTo());
+            
+            // US11: Send email notification when task is assigned
+            sendAssignmentNotification(request.getAssignedTo(), task.getTaskName(), task.getProjectId());
+        }
+
+        task.setUpdatedAt(new Date(changedAt.getTime()));
+        task.setModifiedAt(changedAt.getTime());
+        return history;
+    }
+
+    private void readPatchField(CreateTaskRequest changes, Set<String> cleared, String field, Object value) {
+        if (value == null) {
+            if (!CLEARABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be cleared: " + field);
+            }
+            cleared.add(field);
+            return;
+        }
+        switch (field) {
+            case "taskName" -> changes.setTaskName(value.toString());
+            case "taskDescription" -> changes.setTaskDescription(value.toString());
+            case "taskStatus" -> changes.setTaskStatus(value.toString());
+            case "taskPriority" -> changes.setTaskPriority(value.toString());
+            case "dueDate" -> changes.setDueDate(value instanceof Number millis
+                ? new Date(millis.longValue()) : Date.valueOf(value.toString()));
+            case "assignedTo" -> changes.setAssignedTo(value instanceof Number id
+                ? id.longValue() : Long.valueOf(value.toString()));
+            default -> throw new IllegalArgumentException("Field cannot be patched: " + field);
+        }
+    }
+
+    private List<TaskHistory> clearFields(TaskEntity task, Set<String> cleared, Long updatedBy, Timestamp changedAt) {
+        List<TaskHistory> history = new ArrayList<>();
+        if (cleared.contains("taskDescription") && task.getTaskDescription() != null) {
+            history.add(historyEntry(task.getTaskId(), "taskDescription", task.getTaskDescription(), null, updatedBy, changedAt));
+            task.setTaskDescription(null);
+        }
+        if (cleared.contains("dueDate") && task.getDueDate() != null) {
+            history.add(historyEntry(task.getTaskId(), "dueDate", task.getDueDate().toString(), null, updatedBy, changedAt));
+            task.setDueDate(null);
+        }
+        if (cleared.contains("assignedTo") && task.getAssignedTo() != null) {
+            history.add(historyEntry(task.getTaskId(), "assignedTo", task.getAssignedTo().toString(), null, updatedBy, changedAt));
+            task.setAssignedTo(null);
+        }
+        return history;
+    }
+
     private void recordHistory(Long taskId, String field, String oldValue, String newValue, Long changedBy) {
-        TaskHistory history = TaskHistory.builder()
+        historyRepository.save(historyEntry(taskId, field, oldValue, newValue, changedBy,
+            new Timestamp(System.currentTimeMillis())));
+    }
+
+    private TaskHistory historyEntry(Long taskId, String field, String oldValue, String newValue, Long changedBy,
+            Timestamp changedAt) {
+        return TaskHistory.builder()
             .taskId(taskId)
             .fieldChanged(field)
             .oldValue(oldValue)
             .newValue(newValue)
             .changedBy(changedBy)
-            .changedAt(new Timestamp(System.currentTimeMillis()))
+            .changedAt(changedAt)
             .build();
-        historyRepository.save(history);
+    }
+
+    // Bumps the project list version; live subscribers are fed from task_view by TaskEventBroadcaster.
+    private void publish(String type, TaskDTO task) {
+        eventPublisher.publishEvent(TaskEvent.builder()
+            .type(type)
+            .projectId(task.getProjectId())
+            .taskId(task.getTaskId())
+            .task(task)
+            .build());
     }
 
     private void sendAssignmentNotification(Long assignedToUserId, String taskName, Long projectId) {
@@ -242,40 +655,28 @@ public class TaskService {
         }
     }
 
-    private TaskDTO toDTO(TaskEntity task) {
-        String projectName = null;
-        String assignedToName = null;
-
-        if (task.getProjectId() != null) {
-            projectRepository.findById(task.getProjectId())
-                .ifPresent(p -> {});
-            Optional<ProjectEntity> proj = projectRepository.findById(task.getProjectId());
-            if (proj.isPresent()) {
-                projectName = proj.get().getProjectName();
-            }
+    // Sparse fieldsets: ?fields=taskName,taskStatus keeps those keys plus taskId. The
+    // description is not a list field; it is only returned by getTaskById.
+    private Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
         }
-
-        if (task.getAssignedTo() != null) {
-            Optional<UserEntity> user = userRepository.findById(task.getAssignedTo());
-            if (user.isPresent()) {
-                assignedToName = user.get().getName();
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("taskId");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
             }
+            if (!LIST_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Field cannot be listed: " + name);
+            }
+            selected.add(name);
         }
+        return selected;
+    }
 
-        return TaskDTO.builder()
-            .taskId(task.getTaskId())
-            .taskName(task.getTaskName())
-            .taskDescription(task.getTaskDescription())
-            .taskStatus(task.getTaskStatus())
-            .taskPriority(task.getTaskPriority())
-            .dueDate(task.getDueDate())
-            .projectId(task.getProjectId())
-            .projectName(projectName)
-            .assignedTo(task.getAssignedTo())
-            .assignedToName(assignedToName)
-            .createdBy(task.getCreatedBy())
-            .createdAt(task.getCreatedAt())
-            .updatedAt(task.getUpdatedAt())
-            .build();
+    private List<TaskDTO> toDTOs(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskViewService::toDTO).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package com.project.projectmanagment.services;
+
+import java.util.*;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.entities.task.ProjectTaskStats;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.repositories.task.ProjectTaskStatsRepository;
+import com.project.projectmanagment.repositories.task.TaskStatusCount;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains {@code project_task_stats}, the per-project task counts by status and priority,
+ * so board and dashboard totals are read without scanning {@code task_tl}. Writers call the
+ * record methods inside their own transaction; {@link #reconcile()} compares each project's
+ * counts with {@code task_tl} and corrects any drift from writes that bypass the services.
+ */
+@Service
+@Slf4j
+public class TaskStatsService {
+
+    private final ProjectTaskStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskStatsService(ProjectTaskStatsRepository statsRepository, PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record StatsKey(Long projectId, String status, String priority) {
+        private static final Comparator<StatsKey> ORDER = Comparator.comparing(StatsKey::projectId)
+            .thenComparing(StatsKey::status)
+            .thenComparing(StatsKey::priority);
+
+        boolean isComplete() {
+            return projectId != null && status != null && priority != null;
+        }
+    }
+
+    public static StatsKey keyOf(TaskEntity task) {
+        return new StatsKey(task.getProjectId(), task.getTaskStatus(), task.getTaskPriority());
+    }
+
+    public void recordCreated(Collection<TaskEntity> tasks) {
+        adjust(Collections.emptyList(), tasks.stream().map(TaskStatsService::keyOf).toList());
+    }
+
+    public void recordDeleted(TaskEntity task) {
+        adjust(Collections.singletonList(keyOf(task)), Collections.emptyList());
+    }
+
+    // Call before the tasks are deleted, in the same transaction.
+    public void recordDeleted(Long projectId, Collection<Long> taskIds) {
+        Map<StatsKey, Long> deltas = new TreeMap<>(StatsKey.ORDER);
+        for (Object[] row : statsRepository.countTasksIn(taskIds)) {
+            deltas.merge(new StatsKey(projectId, (String) row[0], (String) row[1]), -(Long) row[2], Long::sum);
+        }
+        apply(deltas);
+    }
+
+    public void recordChanged(Collection<StatsKey> before, Collection<StatsKey> after) {
+        adjust(before, after);
+    }
+
+    public void deleteProject(Long projectId) {
+        statsRepository.deleteByProjectId(projectId);
+    }
+
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new HashMap<>();
+        for (TaskStatusCount count : statsRepository.sumGroupByStatus()) {
+            counts.put(count.getStatus(), count.getTotal());
+        }
+        return counts;
+    }
+
+    public ApiResponse getProjectStats(Long projectId) {
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byPriority = new TreeMap<>();
+        long total = 0;
+        for (ProjectTaskStats stats : statsRepository.findByProjectId(projectId)) {
+            byStatus.merge(stats.getStatus(), stats.getTaskCount(), Long::sum);
+            byPriority.merge(stats.getPriority(), stats.getTaskCount(), Long::sum);
+            total += stats.getTaskCount();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("projectId", projectId);
+        result.put("totalTasks", total);
+        result.put("byStatus", byStatus);
+        result.put("byPriority", byPriority);
+        return ApiResponse.success(result);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:3600000}",
+        initialDelayString = "${app.stats.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        int corrected = 0;
+        for (Long projectId : statsRepository.findProjectIdsToReconcile()) {
+            try {
+                corrected += transactionTemplate.execute(status -> reconcileProject(projectId));
+            } catch (Exception e) {
+                log.error("Project task stats reconciliation failed for project {}: {}", projectId, e.getMessage());
+            }
+        }
+        log.info("Reconciled project task stats: {} counts corrected", corrected);
+    }
+
+    // Both reads share the transaction's snapshot and the correction is applied as an increment,
+    // so counts recorded by writers committing meanwhile are kept rather than overwritten.
+    private int reconcileProject(Long projectId) {
+        Map<StatsKey, Long> deltas = new TreeMap<>(StatsKey.ORDER);
+        for (Object[] row : statsRepository.countTasks(projectId)) {
+            deltas.merge(new StatsKey(projectId, (String) row[0], (String) row[1]), (Long) row[2], Long::sum);
+        }
+        for (ProjectTaskStats stats : statsRepository.findByProjectId(projectId)) {
+            deltas.merge(new StatsKey(projectId, stats.getStatus(), stats.getPriority()), -stats.getTaskCount(),
+                Long::sum);
+        }
+        return apply(deltas);
+    }
+
+    // Rows are upserted in key order so concurrent bulk writers lock them in the same order.
+    private void adjust(Collection<StatsKey> removed, Collection<StatsKey> added) {
+        Map<StatsKey, Long> deltas = new TreeMap<>(StatsKey.ORDER);
+        removed.stream().filter(StatsKey::isComplete).forEach(k -> deltas.merge(k, -1L, Long::sum));
+        added.stream().filter(StatsKey::isComplete).forEach(k -> deltas.merge(k, 1L, Long::sum));
+        apply(deltas);
+    }
+
+    private int apply(Map<StatsKey, Long> deltas) {
+        int applied = 0;
+        for (Map.Entry<StatsKey, Long> entry : deltas.entrySet()) {
+            StatsKey key = entry.getKey();
+            if (entry.getValue() != 0) {
+                statsRepository.increment(key.projectId(), key.status(), key.priority(), entry.getValue());
+                applied++;
+            }
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,225 @@
+package com.project.projectmanagment.services;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.models.task.TaskDTO;
+import com.project.projectmanagment.models.task.TaskSummary;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+import com.project.projectmanagment.repositories.user.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains {@code task_view}, the read model behind the task GET endpoints: one row per
+ * task with the project and assignee names copied in, so reads need neither joins nor
+ * name lookups. Task writers call {@link #save} and {@link #delete} inside their own
+ * transaction. Project and user renames touch every row of a project or assignee, so they
+ * are applied after the rename commits, off the request thread, and then advance the list
+ * ETags. {@link #refreshNames()} repairs names left stale by a rename that raced a task
+ * write or was lost to a restart.
+ */
+@Service
+@Slf4j
+public class TaskViewService {
+
+    private final TaskViewRepository viewRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectVersionTracker versionTracker;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService renamer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "task-view-renames");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TaskViewService(TaskViewRepository viewRepository, ProjectRepository projectRepository,
+            UserRepository userRepository, ProjectVersionTracker versionTracker, EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.viewRepository = viewRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.versionTracker = versionTracker;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Upserts the rows of the given tasks and returns their DTOs in the same order. */
+    public List<TaskDTO> save(Collection<TaskEntity> tasks) {
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (TaskEntity task : tasks) {
+            taskIds.add(task.getTaskId());
+            if (task.getProjectId() != null) {
+                projectIds.add(task.getProjectId());
+            }
+            if (task.getAssignedTo() != null) {
+                userIds.add(task.getAssignedTo());
+            }
+        }
+
+        Map<Long, String> projectNames = new HashMap<>();
+        if (!projectIds.isEmpty()) {
+            projectRepository.findAllById(projectIds)
+                .forEach(p -> projectNames.put(p.getProjectId(), p.getProjectName()));
+        }
+        Map<Long, String> userNames = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            userRepository.findByUserIdIn(new ArrayList<>(userIds))
+                .forEach(u -> userNames.put(u.getUserId(), u.getName()));
+        }
+
+        Map<Long, TaskView> existing = new HashMap<>();
+        viewRepository.findAllById(taskIds).forEach(v -> existing.put(v.getTaskId(), v));
+
+        List<TaskDTO> dtos = new ArrayList<>(tasks.size());
+        for (TaskEntity task : tasks) {
+            TaskView view = existing.get(task.getTaskId());
+            boolean created = view == null;
+            if (created) {
+                view = new TaskView();
+            }
+            copy(task, view, projectNames.get(task.getProjectId()), userNames.get(task.getAssignedTo()));
+            if (created) {
+                // Assigned ids would make save() merge, costing a SELECT per new row.
+                entityManager.persist(view);
+            }
+            dtos.add(toDTO(view));
+        }
+        return dtos;
+    }
+
+    public void delete(Collection<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            viewRepository.deleteByTaskIdIn(taskIds);
+        }
+    }
+
+    public void projectRenamed(Long projectId, String projectName) {
+        afterCommit(() -> {
+            int rows = transactionTemplate.execute(status -> {
+                versionTracker.projectChanged(projectId);
+                return viewRepository.updateProjectName(projectId, projectName);
+            });
+            log.info("Renamed project {} on {} task view rows", projectId, rows);
+        });
+    }
+
+    public void userRenamed(Long userId, String name) {
+        afterCommit(() -> {
+            int rows = transactionTemplate.execute(status -> {
+                versionTracker.usersChanged(userId);
+                return viewRepository.updateAssigneeName(userId, name);
+            });
+            log.info("Renamed assignee {} on {} task view rows", userId, rows);
+        });
+    }
+
+    @Scheduled(initialDelayString = "${app.task-view.refresh-interval-ms:3600000}",
+        fixedDelayString = "${app.task-view.refresh-interval-ms:3600000}")
+    public void refreshNames() {
+        int rows = transactionTemplate.execute(status -> {
+            versionTracker.allChanged();
+            return viewRepository.refreshNames();
+        });
+        log.info("Refreshed names on {} task view rows", rows);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renamer.shutdownNow();
+    }
+
+    public static TaskDTO toDTO(TaskView view) {
+        return TaskDTO.builder()
+            .taskId(view.getTaskId())
+            .taskName(view.getTaskName())
+            .taskDescription(view.getTaskDescription())
+            .taskStatus(view.getTaskStatus())
+            .taskPriority(view.getTaskPriority())
+            .dueDate(view.getDueDate())
+            .projectId(view.getProjectId())
+            .projectName(view.getProjectName())
+            .assignedTo(view.getAssignedTo())
+            .assignedToName(view.getAssignedToName())
+            .createdBy(view.getCreatedBy())
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .modifiedAt(view.getModifiedAt())
+            .version(view.getVersion())
+            .build();
+    }
+
+    public static TaskDTO toDTO(TaskSummary summary) {
+        return TaskDTO.builder()
+            .taskId(summary.getTaskId())
+            .taskName(summary.getTaskName())
+            .taskStatus(summary.getTaskStatus())
+            .taskPriority(summary.getTaskPriority())
+            .dueDate(summary.getDueDate())
+            .projectId(summary.getProjectId())
+            .projectName(summary.getProjectName())
+            .assignedTo(summary.getAssignedTo())
+            .assignedToName(summary.getAssignedToName())
+            .createdBy(summary.getCreatedBy())
+            .createdAt(summary.getCreatedAt())
+            .updatedAt(summary.getUpdatedAt())
+            .modifiedAt(summary.getModifiedAt())
+            .version(summary.getVersion())
+            .build();
+    }
+
+    private void copy(TaskEntity task, TaskView view, String projectName, String assignedToName) {
+        view.setTaskId(task.getTaskId());
+        view.setTaskName(task.getTaskName());
+        view.setTaskDescription(task.getTaskDescription());
+        view.setTaskStatus(task.getTaskStatus());
+        view.setTaskPriority(task.getTaskPriority());
+        view.setDueDate(task.getDueDate());
+        view.setProjectId(task.getProjectId());
+        view.setProjectName(projectName);
+        view.setAssignedTo(task.getAssignedTo());
+        view.setAssignedToName(assignedToName);
+        view.setCreatedBy(task.getCreatedBy());
+        view.setCreatedAt(task.getCreatedAt());
+        view.setUpdatedAt(task.getUpdatedAt());
+        view.setModifiedAt(task.getModifiedAt());
+        view.setVersion(task.getVersion());
+    }
+
+    private void afterCommit(Runnable rename) {
+        Runnable task = () -> {
+            try {
+                rename.run();
+            } catch (RuntimeException e) {
+                log.error("Task view rename failed; the next name refresh will repair it", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    renamer.execute(task);
+                }
+            });
+        } else {
+            renamer.execute(task);
+        }
+    }
+}
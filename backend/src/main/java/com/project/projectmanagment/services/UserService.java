@@ -5,11 +5,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.project.projectmanagment.entities.user.UserEntity;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
 import com.project.projectmanagment.models.user.*;
 import com.project.projectmanagment.repositories.user.UserRepository;
 
@@ -22,6 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ProjectVersionTracker versionTracker;
+    private final TaskViewService taskViewService;
 
     public ApiResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -70,6 +75,20 @@ public class UserService {
         return ApiResponse.success(users);
     }
 
+    // Without cursor and limit every user comes back; that form is deprecated and kept for
+    // existing clients.
+    public ApiResponse getAllUsers(String cursor, Integer limit) {
+        if (cursor == null && limit == null) {
+            return getAllUsers();
+        }
+        Long after = CursorPage.decodeCursor(cursor);
+        Slice<UserEntity> slice = userRepository.findByUserIdGreaterThan(after, CursorPage.pageRequest(limit, "userId"));
+        List<UserDTO> users = slice.getContent().stream()
+            .map(this::toDTO)
+            .collect(Collectors.toList());
+        return ApiResponse.success(CursorPage.of(slice, users, UserEntity::getUserId));
+    }
+
     public ApiResponse getUserById(Long userId) {
         Optional<UserEntity> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
@@ -86,6 +105,7 @@ public class UserService {
         return ApiResponse.success(toDTO(userOpt.get()));
     }
 
+    @Transactional
     public ApiResponse updateUser(Long userId, RegisterRequest request) {
         Optional<UserEntity> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
@@ -93,6 +113,7 @@ public class UserService {
         }
 
         UserEntity user = userOpt.get();
+        boolean renamed = request.getName() != null && !request.getName().equals(user.getName());
         if (request.getName() != null) user.setName(request.getName());
         if (request.getContactNumber() != null) user.setContactNumber(request.getContactNumber());
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
@@ -100,10 +121,15 @@ public class UserService {
         }
 
         userRepository.save(user);
+        versionTracker.usersChanged(userId);
+        if (renamed) {
+            taskViewService.userRenamed(userId, user.getName());
+        }
         log.info("User updated: {}", user.getEmail());
         return ApiResponse.success("User updated successfully", toDTO(user));
     }
 
+    @Transactional
     public ApiResponse deleteUser(Long userId) {
         Optional<UserEntity> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
@@ -111,10 +137,13 @@ public class UserService {
         }
 
         userRepository.delete(userOpt.get());
+        versionTracker.usersChanged(userId);
+        taskViewService.userRenamed(userId, null);
         log.info("User deleted: {}", userId);
         return ApiResponse.success("User deleted successfully", null);
     }
 
+    @Transactional
     public ApiResponse deactivateUser(Long userId) {
         Optional<UserEntity> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
@@ -28,36 +28,70 @@ INSERT INTO project_member_tl (user_id, project_id, role, status, joined_at) VAL
 (1, 3, 'MEMBRE', 'ACCEPTED', DATE_ADD(CURDATE(), INTERVAL -55 DAY))
 ON DUPLICATE KEY UPDATE role = role;
 -- Tasks for E-Commerce Platform (Project 1)
-INSERT INTO task_tl (task_name, task_description, task_status, task_priority, due_date, project_id_fk, assigned_to, created_by, created_at, updated_at) VALUES
-('Setup project structure', 'Initialize the project with proper folder structure and dependencies', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -10 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -15 DAY), DATE_ADD(CURDATE(), INTERVAL -10 DAY)),
-('Design database schema', 'Create ERD and implement database models', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -5 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -12 DAY), DATE_ADD(CURDATE(), INTERVAL -5 DAY)),
-('Implement user authentication', 'JWT-based authentication with refresh tokens', 'IN_PROGRESS', 'HIGH', DATE_ADD(CURDATE(), INTERVAL 5 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -7 DAY), CURDATE()),
-('Create product catalog UI', 'Design and implement product listing pages', 'IN_PROGRESS', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 7 DAY), 1, 3, 1, DATE_ADD(CURDATE(), INTERVAL -5 DAY), CURDATE()),
-('Integrate Stripe payments', 'Setup Stripe for payment processing', 'TODO', 'HIGH', DATE_ADD(CURDATE(), INTERVAL 14 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -3 DAY), DATE_ADD(CURDATE(), INTERVAL -3 DAY)),
-('Shopping cart functionality', 'Implement add/remove/update cart items', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 10 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -2 DAY), DATE_ADD(CURDATE(), INTERVAL -2 DAY)),
-('Order management system', 'Create order processing workflow', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 21 DAY), 1, NULL, 1, CURDATE(), CURDATE()),
-('Email notifications', 'Setup email templates and notifications', 'TODO', 'LOW', DATE_ADD(CURDATE(), INTERVAL 28 DAY), 1, NULL, 1, CURDATE(), CURDATE());
+INSERT INTO task_tl (task_id, task_name, task_description, task_status, task_priority, due_date, project_id_fk, assigned_to, created_by, created_at, updated_at) VALUES
+(1, 'Setup project structure', 'Initialize the project with proper folder structure and dependencies', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -10 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -15 DAY), DATE_ADD(CURDATE(), INTERVAL -10 DAY)),
+(2, 'Design database schema', 'Create ERD and implement database models', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -5 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -12 DAY), DATE_ADD(CURDATE(), INTERVAL -5 DAY)),
+(3, 'Implement user authentication', 'JWT-based authentication with refresh tokens', 'IN_PROGRESS', 'HIGH', DATE_ADD(CURDATE(), INTERVAL 5 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -7 DAY), CURDATE()),
+(4, 'Create product catalog UI', 'Design and implement product listing pages', 'IN_PROGRESS', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 7 DAY), 1, 3, 1, DATE_ADD(CURDATE(), INTERVAL -5 DAY), CURDATE()),
+(5, 'Integrate Stripe payments', 'Setup Stripe for payment processing', 'TODO', 'HIGH', DATE_ADD(CURDATE(), INTERVAL 14 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -3 DAY), DATE_ADD(CURDATE(), INTERVAL -3 DAY)),
+(6, 'Shopping cart functionality', 'Implement add/remove/update cart items', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 10 DAY), 1, 2, 1, DATE_ADD(CURDATE(), INTERVAL -2 DAY), DATE_ADD(CURDATE(), INTERVAL -2 DAY)),
+(7, 'Order management system', 'Create order processing workflow', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 21 DAY), 1, NULL, 1, CURDATE(), CURDATE()),
+(8, 'Email notifications', 'Setup email templates and notifications', 'TODO', 'LOW', DATE_ADD(CURDATE(), INTERVAL 28 DAY), 1, NULL, 1, CURDATE(), CURDATE())
+ON DUPLICATE KEY UPDATE task_id = task_id;
 
 -- Tasks for Mobile App V2 (Project 2)
-INSERT INTO task_tl (task_name, task_description, task_status, task_priority, due_date, project_id_fk, assigned_to, created_by, created_at, updated_at) VALUES
-('UI/UX Research', 'Conduct user research and create wireframes', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -20 DAY), 2, 3, 1, DATE_ADD(CURDATE(), INTERVAL -30 DAY), DATE_ADD(CURDATE(), INTERVAL -20 DAY)),
-('Design system creation', 'Create reusable components and style guide', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -10 DAY), 2, 3, 1, DATE_ADD(CURDATE(), INTERVAL -25 DAY), DATE_ADD(CURDATE(), INTERVAL -10 DAY)),
-('Implement new navigation', 'Bottom tab navigation with animations', 'IN_PROGRESS', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 3 DAY), 2, 2, 1, DATE_ADD(CURDATE(), INTERVAL -8 DAY), CURDATE()),
-('Push notifications', 'Firebase push notification integration', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 15 DAY), 2, 2, 1, CURDATE(), CURDATE()),
-('Offline mode', 'Implement offline data sync', 'TODO', 'LOW', DATE_ADD(CURDATE(), INTERVAL 25 DAY), 2, NULL, 1, CURDATE(), CURDATE());
+INSERT INTO task_tl (task_id, task_name, task_description, task_status, task_priority, due_date, project_id_fk, assigned_to, created_by, created_at, updated_at) VALUES
+(9, 'UI/UX Research', 'Conduct user research and create wireframes', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -20 DAY), 2, 3, 1, DATE_ADD(CURDATE(), INTERVAL -30 DAY), DATE_ADD(CURDATE(), INTERVAL -20 DAY)),
+(10, 'Design system creation', 'Create reusable components and style guide', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -10 DAY), 2, 3, 1, DATE_ADD(CURDATE(), INTERVAL -25 DAY), DATE_ADD(CURDATE(), INTERVAL -10 DAY)),
+(11, 'Implement new navigation', 'Bottom tab navigation with animations', 'IN_PROGRESS', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 3 DAY), 2, 2, 1, DATE_ADD(CURDATE(), INTERVAL -8 DAY), CURDATE()),
+(12, 'Push notifications', 'Firebase push notification integration', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 15 DAY), 2, 2, 1, CURDATE(), CURDATE()),
+(13, 'Offline mode', 'Implement offline data sync', 'TODO', 'LOW', DATE_ADD(CURDATE(), INTERVAL 25 DAY), 2, NULL, 1, CURDATE(), CURDATE())
+ON DUPLICATE KEY UPDATE task_id = task_id;
 
 -- Tasks for API Gateway (Project 3 - Completed)
-INSERT INTO task_tl (task_name, task_description, task_status, task_priority, due_date, project_id_fk, assigned_to, created_by, created_at, updated_at) VALUES
-('Gateway architecture', 'Design the API gateway architecture', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -50 DAY), 3, 2, 2, DATE_ADD(CURDATE(), INTERVAL -60 DAY), DATE_ADD(CURDATE(), INTERVAL -50 DAY)),
-('Rate limiting', 'Implement rate limiting per client', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -40 DAY), 3, 2, 2, DATE_ADD(CURDATE(), INTERVAL -55 DAY), DATE_ADD(CURDATE(), INTERVAL -40 DAY)),
-('Load balancing', 'Setup load balancing with health checks', 'COMPLETED', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL -30 DAY), 3, 1, 2, DATE_ADD(CURDATE(), INTERVAL -45 DAY), DATE_ADD(CURDATE(), INTERVAL -30 DAY));
+INSERT INTO task_tl (task_id, task_name, task_description, task_status, task_priority, due_date, project_id_fk, assigned_to, created_by, created_at, updated_at) VALUES
+(14, 'Gateway architecture', 'Design the API gateway architecture', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -50 DAY), 3, 2, 2, DATE_ADD(CURDATE(), INTERVAL -60 DAY), DATE_ADD(CURDATE(), INTERVAL -50 DAY)),
+(15, 'Rate limiting', 'Implement rate limiting per client', 'COMPLETED', 'HIGH', DATE_ADD(CURDATE(), INTERVAL -40 DAY), 3, 2, 2, DATE_ADD(CURDATE(), INTERVAL -55 DAY), DATE_ADD(CURDATE(), INTERVAL -40 DAY)),
+(16, 'Load balancing', 'Setup load balancing with health checks', 'COMPLETED', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL -30 DAY), 3, 1, 2, DATE_ADD(CURDATE(), INTERVAL -45 DAY), DATE_ADD(CURDATE(), INTERVAL -30 DAY))
+ON DUPLICATE KEY UPDATE task_id = task_id;
 
 -- Task History examples
-INSERT INTO task_history_tl (task_id, field_changed, old_value, new_value, changed_by, changed_at) VALUES
-(1, 'taskStatus', 'TODO', 'IN_PROGRESS', 2, DATE_ADD(NOW(), INTERVAL -12 DAY)),
-(1, 'taskStatus', 'IN_PROGRESS', 'COMPLETED', 2, DATE_ADD(NOW(), INTERVAL -10 DAY)),
-(2, 'taskStatus', 'TODO', 'IN_PROGRESS', 2, DATE_ADD(NOW(), INTERVAL -8 DAY)),
-(2, 'taskStatus', 'IN_PROGRESS', 'COMPLETED', 2, DATE_ADD(NOW(), INTERVAL -5 DAY)),
-(3, 'taskStatus', 'TODO', 'IN_PROGRESS', 2, DATE_ADD(NOW(), INTERVAL -2 DAY)),
-(3, 'assignedTo', NULL, '2', 1, DATE_ADD(NOW(), INTERVAL -7 DAY)),
-(4, 'taskPriority', 'LOW', 'MEDIUM', 1, DATE_ADD(NOW(), INTERVAL -3 DAY));
\ No newline at end of file
+INSERT INTO task_history_tl (history_id, task_id, field_changed, old_value, new_value, changed_by, changed_at) VALUES
+(1, 1, 'taskStatus', 'TODO', 'IN_PROGRESS', 2, DATE_ADD(NOW(), INTERVAL -12 DAY)),
+(2, 1, 'taskStatus', 'IN_PROGRESS', 'COMPLETED', 2, DATE_ADD(NOW(), INTERVAL -10 DAY)),
+(3, 2, 'taskStatus', 'TODO', 'IN_PROGRESS', 2, DATE_ADD(NOW(), INTERVAL -8 DAY)),
+(4, 2, 'taskStatus', 'IN_PROGRESS', 'COMPLETED', 2, DATE_ADD(NOW(), INTERVAL -5 DAY)),
+(5, 3, 'taskStatus', 'TODO', 'IN_PROGRESS', 2, DATE_ADD(NOW(), INTERVAL -2 DAY)),
+(6, 3, 'assignedTo', NULL, '2', 1, DATE_ADD(NOW(), INTERVAL -7 DAY)),
+(7, 4, 'taskPriority', 'LOW', 'MEDIUM', 1, DATE_ADD(NOW(), INTERVAL -3 DAY))
+ON DUPLICATE KEY UPDATE history_id = history_id;
+
+-- Move the task and history id generators past the seeded rows. Hibernate creates the generator
+-- rows at 0 before this script runs, so raise them rather than only inserting missing ones.
+INSERT IGNORE INTO id_generator (sequence_name, next_val) VALUES ('task_tl', 0), ('task_history_tl', 0);
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(task_id), 0) + 1 FROM task_tl))
+WHERE sequence_name = 'task_tl';
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(history_id), 0) + 1 FROM task_history_tl))
+WHERE sequence_name = 'task_history_tl';
+
+-- Give seeded and pre-existing tasks a delta-sync watermark
+UPDATE task_tl SET modified_at = UNIX_TIMESTAMP(COALESCE(updated_at, created_at, CURDATE())) * 1000
+WHERE modified_at IS NULL;
+
+-- Add tasks missing from the task read model; existing rows are kept up to date by the application
+INSERT INTO task_view (task_id, task_name, task_description, task_status, task_priority, due_date, project_id,
+    project_name, assigned_to, assigned_to_name, created_by, created_at, updated_at, modified_at, version)
+SELECT t.task_id, t.task_name, t.task_description, t.task_status, t.task_priority, t.due_date, t.project_id_fk,
+    p.project_name, t.assigned_to, u.name, t.created_by, t.created_at, t.updated_at, t.modified_at, t.version
+FROM task_tl t
+LEFT JOIN project_tl p ON p.project_id = t.project_id_fk
+LEFT JOIN user_tl u ON u.user_id = t.assigned_to
+WHERE NOT EXISTS (SELECT 1 FROM task_view v WHERE v.task_id = t.task_id);
+
+-- Backfill the per-project task counters once, while the table is still empty; later drift is
+-- corrected project by project by TaskStatsService.reconcile
+INSERT INTO project_task_stats (project_id, status, priority, task_count)
+SELECT project_id_fk, task_status, task_priority, COUNT(*) FROM task_tl
+WHERE project_id_fk IS NOT NULL AND task_status IS NOT NULL AND task_priority IS NOT NULL
+AND NOT EXISTS (SELECT 1 FROM project_task_stats)
+GROUP BY project_id_fk, task_status, task_priority;
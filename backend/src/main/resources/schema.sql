@@ -1,4 +1,5 @@
 -- PMT Database Schema
+-- Secondary indexes reach existing databases through IndexMigration; list new ones there too.
 
 CREATE TABLE IF NOT EXISTS user_tl (
     user_id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -17,7 +18,10 @@ CREATE TABLE IF NOT EXISTS project_tl (
     project_start_date DATE,
     project_status VARCHAR(50),
     project_status_updated_date DATE,
-    task_created_by BIGINT
+    task_created_by BIGINT,
+    version BIGINT NOT NULL DEFAULT 0,
+    list_version BIGINT NOT NULL DEFAULT 0,
+    deletion_started_at TIMESTAMP NULL
 );
 
 CREATE TABLE IF NOT EXISTS project_member_tl (
@@ -27,11 +31,18 @@ CREATE TABLE IF NOT EXISTS project_member_tl (
     role VARCHAR(50) NOT NULL,
     status VARCHAR(50),
     joined_at DATE,
-    UNIQUE KEY unique_member (user_id, project_id)
+    version BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY unique_member (user_id, project_id),
+    INDEX idx_member_project_status (project_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
 );
 
 CREATE TABLE IF NOT EXISTS task_tl (
-    task_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    task_id BIGINT PRIMARY KEY,
     task_name VARCHAR(255) NOT NULL,
     task_description TEXT,
     task_status VARCHAR(50),
@@ -41,15 +52,93 @@ CREATE TABLE IF NOT EXISTS task_tl (
     assigned_to BIGINT,
     created_by BIGINT,
     created_at DATE,
-    updated_at DATE
+    updated_at DATE,
+    modified_at BIGINT,
+    version BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_task_project_status (project_id_fk, task_status),
+    INDEX idx_task_assigned_to (assigned_to),
+    INDEX idx_task_status (task_status),
+    INDEX idx_task_project_modified (project_id_fk, modified_at)
+);
+
+CREATE TABLE IF NOT EXISTS task_view (
+    task_id BIGINT PRIMARY KEY,
+    task_name VARCHAR(255) NOT NULL,
+    task_description TEXT,
+    task_status VARCHAR(50),
+    task_priority VARCHAR(50),
+    due_date DATE,
+    project_id BIGINT,
+    project_name VARCHAR(255),
+    assigned_to BIGINT,
+    assigned_to_name VARCHAR(255),
+    created_by BIGINT,
+    created_at DATE,
+    updated_at DATE,
+    modified_at BIGINT,
+    version BIGINT,
+    INDEX idx_task_view_project_status (project_id, task_status),
+    INDEX idx_task_view_assigned_to (assigned_to),
+    INDEX idx_task_view_status (task_status),
+    INDEX idx_task_view_project_modified (project_id, modified_at),
+    INDEX idx_task_view_modified (modified_at)
+);
+
+CREATE TABLE IF NOT EXISTS task_tombstone_tl (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    deleted_at BIGINT NOT NULL,
+    INDEX idx_tombstone_project_deleted (project_id, deleted_at),
+    INDEX idx_tombstone_deleted (deleted_at)
+);
+
+CREATE TABLE IF NOT EXISTS project_task_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    task_count BIGINT NOT NULL,
+    UNIQUE KEY unique_project_task_stats (project_id, status, priority)
 );
 
 CREATE TABLE IF NOT EXISTS task_history_tl (
-    history_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    history_id BIGINT PRIMARY KEY,
     task_id BIGINT NOT NULL,
     field_changed VARCHAR(100),
     old_value TEXT,
     new_value TEXT,
     changed_by BIGINT,
-    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_history_task_changed (task_id, changed_at)
+);
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    notification_type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    body TEXT,
+    digest_item VARCHAR(500),
+    status VARCHAR(20) NOT NULL,
+    attempts INT DEFAULT 0,
+    last_error VARCHAR(500),
+    available_at TIMESTAMP NULL,
+    created_at TIMESTAMP NULL,
+    sent_at TIMESTAMP NULL,
+    INDEX idx_outbox_status_available (status, available_at)
+);
+CREATE TABLE IF NOT EXISTS project_import_tl (
+    import_id VARCHAR(36) PRIMARY KEY,
+    project_name VARCHAR(255) NOT NULL,
+    format VARCHAR(10),
+    status VARCHAR(20),
+    processed BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    errors TEXT,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NULL,
+    INDEX idx_import_project_started (project_name, started_at),
+    INDEX idx_import_started (started_at)
+);
@@ -0,0 +1,45 @@
+package com.project.projectmanagment.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(IndexMigration.class)
+class IndexMigrationTest {
+
+    @Autowired
+    private IndexMigration migration;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrate_CreatesMissingIndexesOnce() {
+        migration.migrate();
+        jdbcTemplate.execute("DROP INDEX idx_task_status");
+        jdbcTemplate.execute("DROP INDEX idx_outbox_status_available");
+
+        assertEquals(2, migration.migrate());
+        assertEquals(0, migration.migrate());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+            + "WHERE INDEX_NAME = 'IDX_TASK_STATUS' AND TABLE_NAME = 'TASK_TL'", Integer.class));
+    }
+
+    @Test
+    void migrate_LeavesNoSchemaIndexMissing() {
+        migration.migrate();
+
+        for (IndexMigration.IndexDefinition index : IndexMigration.INDEXES) {
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE INDEX_NAME = ? AND TABLE_NAME = ?", Integer.class,
+                index.name().toUpperCase(), index.table().toUpperCase()), index.name());
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.project.projectmanagment.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.project.projectmanagment.config.CacheConfig;
+import com.project.projectmanagment.services.MailDispatcher;
+import com.project.projectmanagment.services.TaskEventBroadcaster;
+
 class HealthControllerTest {
 
-    private final HealthController healthController = new HealthController();
+    private final MailDispatcher mailDispatcher = mock(MailDispatcher.class);
+    private final CacheManager cacheManager = new CacheConfig().cacheManager(60000, 100);
+    private final TaskEventBroadcaster taskEventBroadcaster = mock(TaskEventBroadcaster.class);
+    private final HealthController healthController =
+        new HealthController(mailDispatcher, cacheManager, taskEventBroadcaster);
 
     @Test
     void health_ShouldReturn200() {
@@ -22,4 +33,43 @@ class HealthControllerTest {
         assertEquals("PMT - Project Management Tool", result.getBody().get("application"));
         assertEquals("1.0.0", result.getBody().get("version"));
     }
+
+    @Test
+    void mailQueue_ShouldReportOutboxCounts() {
+        when(mailDispatcher.getPendingCount()).thenReturn(3L);
+        when(mailDispatcher.getFailedCount()).thenReturn(1L);
+
+        ResponseEntity<Map<String, Object>> result = healthController.mailQueue();
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(3L, result.getBody().get("pending"));
+        assertEquals(1L, result.getBody().get("failed"));
+    }
+
+    @Test
+    void eventSubscribers_ShouldReportOpenStreams() {
+        when(taskEventBroadcaster.getSubscriberCount()).thenReturn(12);
+
+        ResponseEntity<Map<String, Object>> result = healthController.eventSubscribers();
+
+        assertEquals(12, result.getBody().get("subscribers"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void caches_ShouldReportHitsAndMisses() {
+        Cache cache = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+        cache.put("user@test.com", "user");
+        cache.get("user@test.com");
+        cache.get("missing@test.com");
+
+        ResponseEntity<Map<String, Object>> result = healthController.caches();
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(CacheConfig.LOOKUP_CACHES.size(), result.getBody().size());
+        Map<String, Object> stats = (Map<String, Object>) result.getBody().get(CacheConfig.USERS_BY_EMAIL);
+        assertEquals(1L, stats.get("size"));
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
 }
@@ -4,17 +4,28 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.project.projectmanagment.models.project.*;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.services.ProjectExportService;
+import com.project.projectmanagment.services.ProjectImportService;
 import com.project.projectmanagment.services.ProjectService;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +33,10 @@ class ProjectControllerTest {
 
     @Mock
     private ProjectService projectService;
+    @Mock
+    private ProjectExportService projectExportService;
+    @Mock
+    private ProjectImportService projectImportService;
 
     @InjectMocks
     private ProjectController projectController;
@@ -47,11 +62,12 @@ class ProjectControllerTest {
 
     @Test
     void getAllProjects_ShouldReturn200() {
-        when(projectService.getAllProjects()).thenReturn(okResponse);
+        when(projectService.getAllProjects(isNull(), isNull())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = projectController.getAllProjects();
+        ResponseEntity<ApiResponse> result = projectController.getAllProjects(null, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("true", result.getHeaders().getFirst("Deprecation"));
     }
 
     @Test
@@ -73,20 +89,46 @@ class ProjectControllerTest {
     }
 
     @Test
-    void getUserProjects_ShouldReturn200() {
+    void getUserProjects_ShouldReturn200WithETag() {
+        when(projectService.getUserProjectsETag(anyString())).thenReturn(Optional.of("\"v1\""));
         when(projectService.getUserProjects(anyString())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = projectController.getUserProjects("test@test.com");
+        ResponseEntity<ApiResponse> result = projectController.getUserProjects("test@test.com", webRequest(null));
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"v1\"", result.getHeaders().getETag());
+        assertEquals("no-cache", result.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getUserProjects_MatchingETag_ShouldReturn304WithoutLoading() {
+        when(projectService.getUserProjectsETag(anyString())).thenReturn(Optional.of("\"v1\""));
+        ServletWebRequest request = webRequest("\"v1\"");
+
+        ResponseEntity<ApiResponse> result = projectController.getUserProjects("test@test.com", request);
+
+        assertNull(result);
+        assertEquals(304, request.getResponse().getStatus());
+        verify(projectService, never()).getUserProjects(anyString());
+    }
+
+    @Test
+    void getUserProjects_UnknownUser_ShouldReturn404WithoutETag() {
+        when(projectService.getUserProjectsETag(anyString())).thenReturn(Optional.empty());
+        when(projectService.getUserProjects(anyString())).thenReturn(notFoundResponse);
+
+        ResponseEntity<ApiResponse> result = projectController.getUserProjects("x@test.com", webRequest("\"v1\""));
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        assertNull(result.getHeaders().getETag());
     }
 
     @Test
     void updateProject_ShouldReturn200() {
-        when(projectService.updateProject(anyString(), any())).thenReturn(okResponse);
+        when(projectService.updateProject(anyString(), any(), isNull())).thenReturn(okResponse);
 
         ProjectDTO dto = ProjectDTO.builder().projectName("Updated").build();
-        ResponseEntity<ApiResponse> result = projectController.updateProject("Test", dto);
+        ResponseEntity<ApiResponse> result = projectController.updateProject("Test", dto, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
@@ -122,11 +164,23 @@ class ProjectControllerTest {
 
     @Test
     void getProjectMembers_ShouldReturn200() {
-        when(projectService.getProjectMembers(anyString())).thenReturn(okResponse);
+        when(projectService.getProjectMembersETag(anyString(), isNull(), isNull(), isNull())).thenReturn(Optional.of("\"v2\""));
+        when(projectService.getProjectMembers(anyString(), any(), any(), any())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = projectController.getProjectMembers("Test");
+        ResponseEntity<ApiResponse> result = projectController.getProjectMembers("Test", null, null, null, webRequest("\"v1\""));
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"v2\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void getProjectMembers_MatchingETag_ShouldReturn304() {
+        when(projectService.getProjectMembersETag(anyString(), isNull(), isNull(), isNull())).thenReturn(Optional.of("\"v2\""));
+        ServletWebRequest request = webRequest("\"v1\", \"v2\"");
+
+        assertNull(projectController.getProjectMembers("Test", null, null, null, request));
+        assertEquals(304, request.getResponse().getStatus());
+        verify(projectService, never()).getProjectMembers(anyString(), any(), any(), any());
     }
 
     @Test
@@ -140,9 +194,9 @@ class ProjectControllerTest {
 
     @Test
     void updateMemberRole_ShouldReturn200() {
-        when(projectService.updateMemberRole(anyString(), anyString(), anyString())).thenReturn(okResponse);
+        when(projectService.updateMemberRole(anyString(), anyString(), anyString(), isNull())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = projectController.updateMemberRole("Test", "test@test.com", "ADMIN");
+        ResponseEntity<ApiResponse> result = projectController.updateMemberRole("Test", "test@test.com", "ADMIN", null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
@@ -155,4 +209,52 @@ class ProjectControllerTest {
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
+
+    @Test
+    void exportProject_ShouldStreamNdjson() {
+        StreamingResponseBody body = out -> { };
+        when(projectExportService.exportProject("Test")).thenReturn(Optional.of(body));
+
+        ResponseEntity<?> result = projectController.exportProject("Test");
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("application/x-ndjson", result.getHeaders().getContentType().toString());
+        assertSame(body, result.getBody());
+    }
+
+    @Test
+    void exportProject_ShouldReturn404() {
+        when(projectExportService.exportProject("Unknown")).thenReturn(Optional.empty());
+
+        ResponseEntity<?> result = projectController.exportProject("Unknown");
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    }
+
+    @Test
+    void importTasks_ShouldPassStreamThrough() {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        when(projectImportService.importTasks("Test", "text/csv", body, 1L)).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = projectController.importTasks("Test", "text/csv", 1L, body);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void getImport_ShouldReturn404() {
+        when(projectImportService.getImport("Test", "missing")).thenReturn(notFoundResponse);
+
+        ResponseEntity<ApiResponse> result = projectController.getImport("Test", "missing");
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    }
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/project");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -4,17 +4,29 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.task.BulkTaskUpdate;
 import com.project.projectmanagment.models.task.CreateTaskRequest;
+import com.project.projectmanagment.models.task.TaskDTO;
+import com.project.projectmanagment.services.TaskEventBroadcaster;
 import com.project.projectmanagment.services.TaskService;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +34,8 @@ class TaskControllerTest {
 
     @Mock
     private TaskService taskService;
+    @Mock
+    private TaskEventBroadcaster taskEventBroadcaster;
 
     @InjectMocks
     private TaskController taskController;
@@ -46,13 +60,44 @@ class TaskControllerTest {
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
 
+    @Test
+    void createTasks_ShouldReturn200() {
+        when(taskService.createTasks(anyList())).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.createTasks(
+            List.of(CreateTaskRequest.builder().taskName("Task").projectId(1L).build()));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void updateTasks_ShouldReturn404() {
+        when(taskService.updateTasks(anyList(), eq(1L))).thenReturn(notFoundResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.updateTasks(
+            List.of(BulkTaskUpdate.builder().taskId(9L).changes(new CreateTaskRequest()).build()), 1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    }
+
     @Test
     void getAllTasks_ShouldReturn200() {
-        when(taskService.getAllTasks()).thenReturn(okResponse);
+        when(taskService.getAllTasks(isNull(), isNull(), isNull())).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.getAllTasks(null, null, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("true", result.getHeaders().getFirst("Deprecation"));
+    }
+
+    @Test
+    void getAllTasks_WithCursor_ShouldReturn200() {
+        when(taskService.getAllTasks("MTA", 10, "taskName")).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = taskController.getAllTasks();
+        ResponseEntity<ApiResponse> result = taskController.getAllTasks("MTA", 10, "taskName");
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertFalse(result.getHeaders().containsKey("Deprecation"));
     }
 
     @Test
@@ -74,48 +119,147 @@ class TaskControllerTest {
     }
 
     @Test
-    void getTasksByProject_ShouldReturn200() {
-        when(taskService.getTasksByProject(1L)).thenReturn(okResponse);
+    void getTasksByProject_ShouldReturn200WithETag() {
+        when(taskService.getTasksByProjectETag(eq(1L), isNull(), isNull(), isNull())).thenReturn("\"v1\"");
+        when(taskService.getTasksByProject(eq(1L), isNull(), isNull(), isNull())).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.getTasksByProject(1L, null, null, null, webRequest(null));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"v1\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void getTasksByProject_MatchingETag_ShouldReturn304WithoutLoading() {
+        when(taskService.getTasksByProjectETag(eq(1L), isNull(), isNull(), isNull())).thenReturn("\"v1\"");
+        ServletWebRequest request = webRequest("\"v1\"");
+
+        ResponseEntity<ApiResponse> result = taskController.getTasksByProject(1L, null, null, null, request);
+
+        assertNull(result);
+        assertEquals(304, request.getResponse().getStatus());
+        verify(taskService, never()).getTasksByProject(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void getTasksByProject_BadRequest_ShouldNotCacheError() {
+        ApiResponse badRequest = ApiResponse.builder().status(HttpStatus.BAD_REQUEST).build();
+        when(taskService.getTasksByProjectETag(1L, "bad", null, null)).thenReturn("\"v1\"");
+        when(taskService.getTasksByProject(1L, "bad", null, null)).thenReturn(badRequest);
+
+        ResponseEntity<ApiResponse> result = taskController.getTasksByProject(1L, "bad", null, null, webRequest(null));
+
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertNull(result.getHeaders().getETag());
+    }
+
+    @Test
+    void streamProjectEvents_ShouldSubscribeToProject() {
+        SseEmitter emitter = new SseEmitter();
+        when(taskEventBroadcaster.subscribe(1L)).thenReturn(emitter);
+
+        assertSame(emitter, taskController.streamProjectEvents(1L));
+    }
+
+    @Test
+    void getTaskChanges_ShouldReturn200() {
+        when(taskService.getTaskChanges(1L, 1000L, null, null)).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.getTaskChanges(1L, 1000L, null, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void getTaskStats_ShouldReturn200() {
+        when(taskService.getTaskStats(1L)).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = taskController.getTasksByProject(1L);
+        ResponseEntity<ApiResponse> result = taskController.getTaskStats(1L);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
 
     @Test
     void getTasksByProjectName_ShouldReturn200() {
-        when(taskService.getTasksByProjectName(anyString())).thenReturn(okResponse);
+        when(taskService.getTasksByProjectName(anyString(), isNull())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = taskController.getTasksByProjectName("Test");
+        ResponseEntity<ApiResponse> result = taskController.getTasksByProjectName("Test", null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
 
     @Test
     void getTasksByUser_ShouldReturn200() {
-        when(taskService.getTasksByUser(1L)).thenReturn(okResponse);
+        when(taskService.getTasksByUser(1L, null)).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = taskController.getTasksByUser(1L);
+        ResponseEntity<ApiResponse> result = taskController.getTasksByUser(1L, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void searchTasks_ShouldReturn200() {
+        when(taskService.searchTasks("bug", 1L, null)).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.searchTasks("bug", 1L, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
 
     @Test
     void getTasksByStatus_ShouldReturn200() {
-        when(taskService.getTasksByStatus(anyString())).thenReturn(okResponse);
+        when(taskService.getTasksByStatus(anyString(), isNull(), isNull(), isNull())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = taskController.getTasksByStatus("TODO");
+        ResponseEntity<ApiResponse> result = taskController.getTasksByStatus("TODO", null, null, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
 
     @Test
     void updateTask_ShouldReturn200() {
-        when(taskService.updateTask(anyLong(), any(), anyLong())).thenReturn(okResponse);
+        when(taskService.updateTask(anyLong(), any(), anyLong(), isNull())).thenReturn(okResponse);
 
         CreateTaskRequest request = CreateTaskRequest.builder()
             .taskName("Updated").taskDescription("Desc").projectId(1L).build();
-        ResponseEntity<ApiResponse> result = taskController.updateTask(1L, request, 1L);
+        ResponseEntity<ApiResponse> result = taskController.updateTask(1L, request, 1L, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void updateTask_IfMatch_ShouldPassVersionAndReturnNewETag() {
+        ApiResponse updated = ApiResponse.success(TaskDTO.builder().taskId(1L).version(4L).build());
+        when(taskService.updateTask(eq(1L), any(), eq(1L), eq(3L))).thenReturn(updated);
+
+        ResponseEntity<ApiResponse> result = taskController.updateTask(1L, new CreateTaskRequest(), 1L, "\"3\"");
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"4\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void updateTask_InvalidIfMatch_ShouldBeRejected() {
+        assertThrows(VersionHeaders.InvalidIfMatchException.class,
+            () -> taskController.updateTask(1L, new CreateTaskRequest(), 1L, "\"abc\""));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void updateTaskStatus_ShouldReturn200() {
+        when(taskService.updateTaskStatus(1L, "COMPLETED", 1L, 2L)).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.updateTaskStatus(1L, "COMPLETED", 1L, "\"2\"");
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void patchTask_ShouldReturn200() {
+        Map<String, Object> patch = Collections.singletonMap("dueDate", null);
+        when(taskService.patchTask(1L, patch, 1L, null)).thenReturn(okResponse);
+
+        ResponseEntity<ApiResponse> result = taskController.patchTask(1L, patch, 1L, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
@@ -140,10 +284,18 @@ class TaskControllerTest {
 
     @Test
     void getDashboardStats_ShouldReturn200() {
-        when(taskService.getDashboardStats(anyString())).thenReturn(okResponse);
+        when(taskService.getDashboardStats(anyString(), anyInt(), anyInt())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = taskController.getDashboardStats("test@test.com");
+        ResponseEntity<ApiResponse> result = taskController.getDashboardStats("test@test.com", 0, 20);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
-}
\ No newline at end of file
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task/project/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
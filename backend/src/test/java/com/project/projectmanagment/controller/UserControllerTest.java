@@ -60,9 +60,9 @@ class UserControllerTest {
 
     @Test
     void getAllUsers_ShouldReturn200() {
-        when(userService.getAllUsers()).thenReturn(okResponse);
+        when(userService.getAllUsers(isNull(), isNull())).thenReturn(okResponse);
 
-        ResponseEntity<ApiResponse> result = userController.getAllUsers();
+        ResponseEntity<ApiResponse> result = userController.getAllUsers(null, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
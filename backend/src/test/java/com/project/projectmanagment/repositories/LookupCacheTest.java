@@ -0,0 +1,164 @@
+package com.project.projectmanagment.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.config.CacheConfig;
+import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.user.UserEntity;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.user.UserRepository;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LookupCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository memberRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+        userRepository.deleteAll();
+        projectRepository.deleteAll();
+        CacheConfig.LOOKUP_CACHES.forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void findByEmail_SecondCallIsServedFromCache() {
+        userRepository.save(user("cached@test.com", "Cached"));
+
+        UserEntity first = userRepository.findByEmail("cached@test.com").orElseThrow();
+        userRepository.deleteAllInBatch();
+        UserEntity second = userRepository.findByEmail("cached@test.com").orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void findById_EditsToTheReturnedCopyDoNotReachTheCache() {
+        Long userId = userRepository.save(user("copied@test.com", "Original")).getUserId();
+        userRepository.findById(userId).orElseThrow().setName("Unsaved");
+
+        assertEquals("Original", userRepository.findById(userId).orElseThrow().getName());
+    }
+
+    @Test
+    void save_RolledBackEditIsNotServedFromCache() {
+        ProjectEntity project = projectRepository.save(ProjectEntity.builder().projectName("Stable").build());
+        projectRepository.findById(project.getProjectId()).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ProjectEntity cached = projectRepository.findById(project.getProjectId()).orElseThrow();
+            cached.setProjectDescription("Rolled back");
+            projectRepository.save(cached);
+            status.setRollbackOnly();
+        });
+
+        assertNull(projectRepository.findById(project.getProjectId()).orElseThrow().getProjectDescription());
+    }
+
+    @Test
+    void findByEmail_MissIsNotCached() {
+        assertTrue(userRepository.findByEmail("late@test.com").isEmpty());
+
+        userRepository.save(user("late@test.com", "Late"));
+
+        assertTrue(userRepository.findByEmail("late@test.com").isPresent());
+    }
+
+    @Test
+    void save_EvictsUserByIdAndEmail() {
+        Long userId = userRepository.save(user("renamed@test.com", "Before")).getUserId();
+        UserEntity cached = userRepository.findById(userId).orElseThrow();
+        userRepository.findByEmail("renamed@test.com").orElseThrow();
+
+        cached.setName("After");
+        userRepository.save(cached);
+
+        assertNotSame(cached, userRepository.findById(userId).orElseThrow());
+        assertEquals("After", userRepository.findByEmail("renamed@test.com").orElseThrow().getName());
+    }
+
+    @Test
+    void delete_EvictsProjectByIdAndName() {
+        ProjectEntity project = projectRepository.save(ProjectEntity.builder().projectName("Cached Project").build());
+        projectRepository.findById(project.getProjectId()).orElseThrow();
+        projectRepository.findByProjectName("Cached Project").orElseThrow();
+
+        projectRepository.delete(project);
+
+        assertTrue(projectRepository.findById(project.getProjectId()).isEmpty());
+        assertTrue(projectRepository.findByProjectName("Cached Project").isEmpty());
+    }
+
+    @Test
+    void findByUserIdAndProjectId_CachesMembershipUntilSaved() {
+        ProjectMember member = memberRepository.save(member(1L, 10L, "MEMBRE"));
+        ProjectMember cached = memberRepository.findByUserIdAndProjectId(1L, 10L).orElseThrow();
+        assertNotNull(cacheManager.getCache(CacheConfig.MEMBERS_BY_USER_PROJECT).get("1:10"));
+        assertEquals(cached, memberRepository.findByUserIdAndProjectId(1L, 10L).orElseThrow());
+
+        member.setRole("ADMIN");
+        memberRepository.save(member);
+
+        assertEquals("ADMIN", memberRepository.findByUserIdAndProjectId(1L, 10L).orElseThrow().getRole());
+    }
+
+    @Test
+    void findByUserIdAndProjectId_CachedNonMemberIsEvictedOnInvite() {
+        assertTrue(memberRepository.findByUserIdAndProjectId(2L, 10L).isEmpty());
+
+        memberRepository.save(member(2L, 10L, "OBSERVATEUR"));
+
+        assertTrue(memberRepository.findByUserIdAndProjectId(2L, 10L).isPresent());
+    }
+
+    @Test
+    void save_RolledBackRoleChangeIsNotServedFromCache() {
+        memberRepository.save(member(3L, 20L, "OBSERVATEUR"));
+        memberRepository.findByUserIdAndProjectId(3L, 20L).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ProjectMember cached = memberRepository.findByUserIdAndProjectId(3L, 20L).orElseThrow();
+            cached.setRole("ADMIN");
+            memberRepository.save(cached);
+            status.setRollbackOnly();
+        });
+
+        assertEquals("OBSERVATEUR", memberRepository.findByUserIdAndProjectId(3L, 20L).orElseThrow().getRole());
+    }
+
+    private ProjectMember member(Long userId, Long projectId, String role) {
+        return ProjectMember.builder().userId(userId).projectId(projectId).role(role).status("ACCEPTED").build();
+    }
+
+    private UserEntity user(String email, String name) {
+        return UserEntity.builder().email(email).name(name).password("secret").isActive(true).build();
+    }
+}
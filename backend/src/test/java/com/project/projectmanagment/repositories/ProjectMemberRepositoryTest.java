@@ -0,0 +1,101 @@
+package com.project.projectmanagment.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.user.UserEntity;
+import com.project.projectmanagment.models.project.ProjectDTO;
+import com.project.projectmanagment.models.project.ProjectMemberDTO;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class ProjectMemberRepositoryTest {
+
+    @Autowired
+    private ProjectMemberRepository memberRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findMemberDetails_JoinsUsersAndKeepsMembersWithoutUser() {
+        UserEntity alice = entityManager.persist(user("alice@test.com", "Alice"));
+        entityManager.persist(member(alice.getUserId(), 1L, "ACCEPTED"));
+        entityManager.persist(member(alice.getUserId() + 1000, 1L, "ACCEPTED"));
+        entityManager.persist(member(alice.getUserId(), 2L, "ACCEPTED"));
+        entityManager.flush();
+
+        List<ProjectMemberDTO> members = memberRepository.findMemberDetails(
+            1L, null, 0L, Pageable.unpaged(Sort.by("userId"))).getContent();
+
+        assertEquals(2, members.size());
+        assertEquals("alice@test.com", members.get(0).getEmail());
+        assertEquals("Alice", members.get(0).getName());
+        assertNull(members.get(1).getEmail());
+    }
+
+    @Test
+    void findMemberDetails_FiltersStatusAndPagesByUserId() {
+        for (long userId = 1; userId <= 5; userId++) {
+            entityManager.persist(member(userId, 1L, userId % 2 == 0 ? "PENDING" : "ACCEPTED"));
+        }
+        entityManager.flush();
+
+        Slice<ProjectMemberDTO> first = memberRepository.findMemberDetails(
+            1L, "ACCEPTED", 0L, PageRequest.of(0, 2, Sort.by("userId")));
+        Slice<ProjectMemberDTO> second = memberRepository.findMemberDetails(
+            1L, "ACCEPTED", first.getContent().get(1).getUserId(), PageRequest.of(0, 2, Sort.by("userId")));
+
+        assertEquals(List.of(1L, 3L), first.getContent().stream().map(ProjectMemberDTO::getUserId).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(5L), second.getContent().stream().map(ProjectMemberDTO::getUserId).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void findAcceptedProjectsWithRole_SkipsPendingAndCarriesRoleAndCreator() {
+        UserEntity owner = entityManager.persist(user("owner@test.com", "Owner"));
+        ProjectEntity accepted = entityManager.persist(project("Accepted", owner.getUserId()));
+        ProjectEntity pending = entityManager.persist(project("Pending", owner.getUserId()));
+        entityManager.persist(ProjectMember.builder()
+            .userId(owner.getUserId()).projectId(accepted.getProjectId()).role("ADMIN").status("ACCEPTED").build());
+        entityManager.persist(member(owner.getUserId(), pending.getProjectId(), "PENDING"));
+        entityManager.flush();
+
+        List<ProjectDTO> projects = projectRepository.findAcceptedProjectsWithRole(owner.getUserId());
+
+        assertEquals(1, projects.size());
+        assertEquals("Accepted", projects.get(0).getProjectName());
+        assertEquals("ADMIN", projects.get(0).getRole());
+        assertEquals("owner@test.com", projects.get(0).getCreatorEmail());
+    }
+
+    private ProjectEntity project(String name, Long createdBy) {
+        return ProjectEntity.builder().projectName(name).projectStatus("ACTIVE").createdBy(createdBy).build();
+    }
+
+    private ProjectMember member(Long userId, Long projectId, String status) {
+        return ProjectMember.builder().userId(userId).projectId(projectId).role("MEMBRE").status(status).build();
+    }
+
+    private UserEntity user(String email, String name) {
+        return UserEntity.builder().email(email).name(name).password("secret").isActive(true).build();
+    }
+}
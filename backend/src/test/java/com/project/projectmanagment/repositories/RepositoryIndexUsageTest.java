@@ -0,0 +1,219 @@
+package com.project.projectmanagment.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.projectmanagment.repositories.project.ProjectImportRepository;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
+import com.project.projectmanagment.repositories.task.TaskRepository;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+import com.project.projectmanagment.support.SqlCapture;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    SqlCapture.PROPERTY
+})
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskViewRepository viewRepository;
+    @Autowired
+    private TaskHistoryRepository historyRepository;
+    @Autowired
+    private ProjectMemberRepository memberRepository;
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectImportRepository importRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void taskFindByProjectId_UsesProjectStatusIndex() {
+        String plan = explain(() -> taskRepository.findByProjectId(1L), 1L);
+        assertUsesIndex(plan, "IDX_TASK_PROJECT_STATUS");
+    }
+
+    @Test
+    void taskFindByProjectIdAndTaskStatus_UsesProjectStatusIndex() {
+        String plan = explain(() -> taskRepository.findByProjectIdAndTaskStatus(1L, "TODO"), 1L, "TODO");
+        assertUsesIndex(plan, "IDX_TASK_PROJECT_STATUS");
+    }
+
+    @Test
+    void taskFindByAssignedTo_UsesAssigneeIndex() {
+        String plan = explain(() -> taskRepository.findByAssignedTo(1L), 1L);
+        assertUsesIndex(plan, "IDX_TASK_ASSIGNED_TO");
+    }
+
+    @Test
+    void taskFindByTaskStatus_UsesStatusIndex() {
+        String plan = explain(() -> taskRepository.findByTaskStatus("TODO"), "TODO");
+        assertUsesIndex(plan, "IDX_TASK_STATUS");
+    }
+
+    @Test
+    void taskFindTaskIdsByProjectId_UsesProjectStatusIndex() {
+        String plan = explain(() -> taskRepository.findTaskIdsByProjectId(1L, PageRequest.of(0, 1000)), 1L, 1000);
+        assertUsesIndex(plan, "IDX_TASK_PROJECT_STATUS");
+    }
+
+    @Test
+    void viewFindByProjectIdAndTaskIdGreaterThan_UsesProjectStatusIndex() {
+        String plan = explain(() -> viewRepository.findByProjectIdAndTaskIdGreaterThan(
+            1L, 0L, PageRequest.of(0, 50, Sort.by("taskId"))), 1L, 0L, 51);
+        assertUsesIndex(plan, "IDX_TASK_VIEW_PROJECT_STATUS");
+        // TaskSummary projection: list pages leave the TEXT column on disk.
+        assertFalse(plan.toUpperCase().contains("TASK_DESCRIPTION"), plan);
+    }
+
+    @Test
+    void viewFindByAssignedTo_UsesAssigneeIndex() {
+        String plan = explain(() -> viewRepository.findByAssignedTo(1L), 1L);
+        assertUsesIndex(plan, "IDX_TASK_VIEW_ASSIGNED_TO");
+    }
+
+    @Test
+    void viewFindByTaskStatus_UsesStatusIndex() {
+        String plan = explain(() -> viewRepository.findByTaskStatus("TODO"), "TODO");
+        assertUsesIndex(plan, "IDX_TASK_VIEW_STATUS");
+    }
+
+    @Test
+    void viewFindByProjectIdInAndTaskStatus_UsesProjectStatusIndex() {
+        String plan = explain(() -> viewRepository.findByProjectIdInAndTaskStatus(
+            Arrays.asList(1L, 2L), "TODO", PageRequest.of(0, 20, Sort.by("taskId"))), 1L, 2L, "TODO", 20);
+        assertUsesIndex(plan, "IDX_TASK_VIEW_PROJECT_STATUS");
+    }
+
+    @Test
+    void viewFindChangedSince_UsesProjectModifiedIndex() {
+        String plan = explain(() -> viewRepository.findChangedSince(1L, 1000L, 5L, PageRequest.of(0, 501)),
+            1L, 1000L, 1000L, 5L, 501);
+        assertUsesIndex(plan, "IDX_TASK_VIEW_PROJECT_MODIFIED");
+    }
+
+    @Test
+    void viewFindAllChangedSince_UsesModifiedIndex() {
+        String plan = explain(() -> viewRepository.findAllChangedSince(1000L, 5L, 2000L, PageRequest.of(0, 500)),
+            1000L, 1000L, 5L, 2000L, 500);
+        assertUsesIndex(plan, "IDX_TASK_VIEW_MODIFIED");
+    }
+
+    @Test
+    void tombstoneFindDeletedTaskIdsBetween_UsesDeletedIndex() {
+        String plan = explain(() -> tombstoneRepository.findDeletedTaskIdsBetween(1000L, 2000L), 1000L, 2000L);
+        assertUsesIndex(plan, "IDX_TOMBSTONE_DELETED");
+    }
+
+    @Test
+    void tombstoneFindDeletedTaskIds_UsesProjectDeletedIndex() {
+        String plan = explain(() -> tombstoneRepository.findDeletedTaskIds(1L, 1000L, 2000L), 1L, 1000L, 2000L);
+        assertUsesIndex(plan, "IDX_TOMBSTONE_PROJECT_DELETED");
+    }
+
+    @Test
+    void historyFindByTaskId_UsesTaskChangedIndex() {
+        String plan = explain(() -> historyRepository.findByTaskIdOrderByChangedAtDesc(1L), 1L);
+        assertUsesIndex(plan, "IDX_HISTORY_TASK_CHANGED");
+    }
+
+    @Test
+    void historyDeleteByTaskIdIn_UsesTaskChangedIndex() {
+        String plan = explain(() -> historyRepository.deleteByTaskIdIn(Arrays.asList(1L, 2L)), 1L, 2L);
+        assertUsesIndex(plan, "IDX_HISTORY_TASK_CHANGED");
+    }
+
+    @Test
+    void memberDeleteByProjectId_UsesProjectStatusIndex() {
+        String plan = explain(() -> memberRepository.deleteByProjectId(1L), 1L);
+        assertUsesIndex(plan, "IDX_MEMBER_PROJECT_STATUS");
+    }
+
+    @Test
+    void memberFindByProjectId_UsesProjectStatusIndex() {
+        String plan = explain(() -> memberRepository.findByProjectId(1L), 1L);
+        assertUsesIndex(plan, "IDX_MEMBER_PROJECT_STATUS");
+    }
+
+    @Test
+    void memberFindByProjectIdAndStatus_UsesProjectStatusIndex() {
+        String plan = explain(() -> memberRepository.findByProjectIdAndStatus(1L, "ACCEPTED"), 1L, "ACCEPTED");
+        assertUsesIndex(plan, "IDX_MEMBER_PROJECT_STATUS");
+    }
+
+    @Test
+    void memberFindMemberDetails_UsesProjectStatusIndex() {
+        String plan = explain(() -> memberRepository.findMemberDetails(
+            1L, "ACCEPTED", 0L, PageRequest.of(0, 50, Sort.by("userId"))), 1L, "ACCEPTED", "ACCEPTED", 0L, 51);
+        assertUsesIndex(plan, "IDX_MEMBER_PROJECT_STATUS");
+    }
+
+    @Test
+    void memberFindByUserIdAndProjectId_UsesUniqueMemberIndex() {
+        String plan = explain(() -> memberRepository.findByUserIdAndProjectId(1L, 1L), 1L, 1L);
+        assertUsesIndex(plan, "UNIQUE_MEMBER");
+    }
+
+    @Test
+    void projectFindAcceptedProjectsWithRole_UsesUniqueMemberIndex() {
+        String plan = explain(() -> projectRepository.findAcceptedProjectsWithRole(1L), 1L);
+        assertUsesIndex(plan, "UNIQUE_MEMBER");
+    }
+
+    @Test
+    void memberFindByUserId_UsesUniqueMemberIndex() {
+        String plan = explain(() -> memberRepository.findByUserId(1L), 1L);
+        assertUsesIndex(plan, "UNIQUE_MEMBER");
+    }
+
+    @Test
+    void importFindTop50ByProjectName_UsesProjectStartedIndex() {
+        String plan = explain(() -> importRepository.findTop50ByProjectNameOrderByStartedAtDesc("Board"), "Board", 50);
+        assertUsesIndex(plan, "IDX_IMPORT_PROJECT_STARTED");
+    }
+
+    @Test
+    void importDeleteByStartedAtBefore_UsesStartedIndex() {
+        Timestamp cutoff = new Timestamp(1000L);
+        String plan = explain(() -> importRepository.deleteByStartedAtBefore(cutoff), cutoff);
+        assertUsesIndex(plan, "IDX_IMPORT_STARTED");
+    }
+
+    private String explain(Runnable repositoryCall, Object... params) {
+        repositoryCall.run();
+        String sql = SqlCapture.STATEMENTS.stream()
+            .filter(s -> s.trim().toLowerCase().startsWith("select") || s.trim().toLowerCase().startsWith("delete"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No SELECT or DELETE captured"));
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+    }
+
+    private void assertUsesIndex(String plan, String indexName) {
+        assertTrue(plan.toUpperCase().contains(indexName), "Expected " + indexName + " in plan:\n" + plan);
+    }
+}
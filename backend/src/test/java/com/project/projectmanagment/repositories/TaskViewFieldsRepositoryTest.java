@@ -0,0 +1,72 @@
+package com.project.projectmanagment.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+import com.project.projectmanagment.support.SqlCapture;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    SqlCapture.PROPERTY
+})
+class TaskViewFieldsRepositoryTest {
+
+    @Autowired
+    private TaskViewRepository viewRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 3; id++) {
+            viewRepository.save(TaskView.builder()
+                .taskId(id)
+                .taskName("Task " + id)
+                .taskDescription("Long description " + id)
+                .taskStatus(id == 2 ? "DONE" : "TODO")
+                .projectId(7L)
+                .version(0L)
+                .build());
+        }
+        viewRepository.flush();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void findFields_SelectsOnlyTheRequestedColumns() {
+        List<Map<String, Object>> rows = viewRepository.findFields(List.of("taskId", "taskName"), "taskStatus", "TODO");
+
+        assertEquals(List.of(Map.of("taskId", 1L, "taskName", "Task 1"), Map.of("taskId", 3L, "taskName", "Task 3")),
+            rows);
+        assertEquals(List.of("taskId", "taskName"), List.copyOf(rows.get(0).keySet()));
+        String select = SqlCapture.STATEMENTS.get(0).toLowerCase(Locale.ROOT);
+        assertEquals(1, SqlCapture.STATEMENTS.size());
+        assertTrue(select.contains("task_name"), select);
+        assertFalse(select.contains("task_description"), select);
+        assertFalse(select.contains("project_name"), select);
+    }
+
+    @Test
+    void findFields_PagesByTaskId() {
+        Slice<Map<String, Object>> first = viewRepository.findFields(List.of("taskId"), "projectId", 7L, 0L,
+            PageRequest.of(0, 2));
+        Slice<Map<String, Object>> second = viewRepository.findFields(List.of("taskId"), "projectId", 7L, 2L,
+            PageRequest.of(0, 2));
+
+        assertEquals(List.of(Map.of("taskId", 1L), Map.of("taskId", 2L)), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(Map.of("taskId", 3L)), second.getContent());
+        assertFalse(second.hasNext());
+    }
+}
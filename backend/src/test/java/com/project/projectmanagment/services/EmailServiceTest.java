@@ -1,62 +1,49 @@
 package com.project.projectmanagment.services;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailDispatcher mailDispatcher;
 
     @InjectMocks
     private EmailService emailService;
 
     @Test
-    void sendProjectInvitation_Success() {
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
-
+    void sendProjectInvitation_WritesOutboxEntry() {
         emailService.sendProjectInvitation(
             "user@test.com", "Test Project", "admin@test.com", "/api/project/accept");
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(mailDispatcher).enqueue(eq(EmailService.TYPE_PROJECT_INVITATION), eq("user@test.com"),
+            eq("You've been invited to project: Test Project"), contains("admin@test.com"));
     }
 
     @Test
-    void sendProjectInvitation_Failure() {
-        doThrow(new RuntimeException("SMTP error")).when(mailSender).send(any(SimpleMailMessage.class));
-
-        emailService.sendProjectInvitation(
-            "user@test.com", "Test Project", "admin@test.com", "/api/project/accept");
-
-        verify(mailSender).send(any(SimpleMailMessage.class));
-    }
-
-    @Test
-    void sendTaskAssignmentNotification_Success() {
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
-
+    void sendTaskAssignmentNotification_WritesOutboxEntry() {
         emailService.sendTaskAssignmentNotification(
             "user@test.com", "Test Task", "Test Project");
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(mailDispatcher).enqueueForDigest(eq(EmailService.TYPE_TASK_ASSIGNMENT), eq("user@test.com"),
+            eq("New task assigned: Test Task"), contains("Test Project"), eq("Test Task (Test Project)"));
     }
 
     @Test
-    void sendTaskAssignmentNotification_Failure() {
-        doThrow(new RuntimeException("SMTP error")).when(mailSender).send(any(SimpleMailMessage.class));
-
-        emailService.sendTaskAssignmentNotification(
-            "user@test.com", "Test Task", "Test Project");
+    void buildTaskAssignmentDigest_ListsEveryTask() {
+        String body = EmailService.buildTaskAssignmentDigest(List.of("Task A (P1)", "Task B (P2)"));
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        assertTrue(body.contains("  - Task A (P1)"));
+        assertTrue(body.contains("  - Task B (P2)"));
     }
-}
\ No newline at end of file
+}
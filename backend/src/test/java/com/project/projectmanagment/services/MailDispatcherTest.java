@@ -0,0 +1,257 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.project.projectmanagment.entities.notification.NotificationOutbox;
+import com.project.projectmanagment.repositories.notification.NotificationOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+    @Mock
+    private JavaMailSender mailSender;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MailDispatcher mailDispatcher;
+    private NotificationOutbox first;
+    private NotificationOutbox second;
+
+    @BeforeEach
+    void setUp() {
+        mailDispatcher = new MailDispatcher(outboxRepository, mailSender, transactionManager,
+            "noreply@pmt.com", 2, 3, 1000, 60000, 300000, 604800000);
+        first = entry(1L, "first@test.com");
+        second = entry(2L, "second@test.com");
+    }
+
+    @Test
+    void enqueue_WritesPendingOutboxRow() {
+        mailDispatcher.enqueue(EmailService.TYPE_TASK_ASSIGNMENT, "user@test.com", "Subject", "Body");
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(MailDispatcher.STATUS_PENDING, captor.getValue().getStatus());
+        assertEquals("user@test.com", captor.getValue().getRecipient());
+        assertEquals(0, captor.getValue().getAttempts());
+        assertNotNull(captor.getValue().getAvailableAt());
+        verifyNoInteractions(mailSender);
+    }
+
+    @Test
+    void enqueue_TruncatesSubjectToColumnLength() {
+        mailDispatcher.enqueue(EmailService.TYPE_PROJECT_INVITATION, "user@test.com",
+            "You've been invited to project: " + "p".repeat(255), "Body");
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(MailDispatcher.SUBJECT_MAX_LENGTH, captor.getValue().getSubject().length());
+    }
+
+    @Test
+    void enqueue_WithoutRecipient_WritesNothing() {
+        mailDispatcher.enqueue(EmailService.TYPE_TASK_ASSIGNMENT, null, "Subject", "Body");
+
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void dispatchBatch_SendsClaimedRowsOverOneConnection() {
+        when(outboxRepository.claimPending(any(), eq(2))).thenReturn(Arrays.asList(first, second));
+
+        int claimed = mailDispatcher.dispatchBatch();
+
+        assertEquals(2, claimed);
+        verify(mailSender, times(1)).send(any(SimpleMailMessage[].class));
+        assertEquals(MailDispatcher.STATUS_SENT, first.getStatus());
+        assertEquals(MailDispatcher.STATUS_SENT, second.getStatus());
+        assertNotNull(first.getSentAt());
+        verify(outboxRepository, times(2)).saveAll(Arrays.asList(first, second));
+    }
+
+    @Test
+    void dispatchBatch_SendsBetweenTheClaimAndRecordTransactions() {
+        when(outboxRepository.claimPending(any(), eq(2))).thenReturn(Arrays.asList(first, second));
+        doAnswer(invocation -> {
+            assertEquals(MailDispatcher.STATUS_SENDING, first.getStatus());
+            assertTrue(first.getAvailableAt().getTime() > System.currentTimeMillis());
+            return null;
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        mailDispatcher.dispatchBatch();
+
+        InOrder order = inOrder(outboxRepository, transactionManager, mailSender);
+        order.verify(outboxRepository).claimPending(any(), eq(2));
+        order.verify(outboxRepository).saveAll(anyList());
+        order.verify(transactionManager).commit(any());
+        order.verify(mailSender).send(any(SimpleMailMessage[].class));
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(outboxRepository).saveAll(anyList());
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void dispatchBatch_ReschedulesOnlyFailedRows() {
+        when(outboxRepository.claimPending(any(), eq(2))).thenReturn(Arrays.asList(first, second));
+        Map<Object, Exception> failed = Collections.singletonMap(message(second), new RuntimeException("421"));
+        doThrow(new MailSendException(failed)).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        mailDispatcher.dispatchBatch();
+
+        assertEquals(MailDispatcher.STATUS_SENT, first.getStatus());
+        assertEquals(MailDispatcher.STATUS_PENDING, second.getStatus());
+        assertEquals(1, second.getAttempts());
+        assertEquals("421", second.getLastError());
+        assertTrue(second.getAvailableAt().getTime() > System.currentTimeMillis());
+    }
+
+    @Test
+    void dispatchBatch_MarksFailedAfterMaxAttempts() {
+        first.setAttempts(2);
+        when(outboxRepository.claimPending(any(), eq(2))).thenReturn(Collections.singletonList(first));
+        doThrow(new RuntimeException("SMTP down")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        mailDispatcher.dispatchBatch();
+
+        assertEquals(MailDispatcher.STATUS_FAILED, first.getStatus());
+        assertEquals(3, first.getAttempts());
+    }
+
+    @Test
+    void enqueueForDigest_DelaysRowByDigestWindow() {
+        long before = System.currentTimeMillis();
+
+        mailDispatcher.enqueueForDigest(EmailService.TYPE_TASK_ASSIGNMENT, "user@test.com", "Subject", "Body",
+            "Task A (Project)");
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals("Task A (Project)", captor.getValue().getDigestItem());
+        assertTrue(captor.getValue().getAvailableAt().getTime() >= before + 60000);
+    }
+
+    @Test
+    void enqueueForDigest_TruncatesItemToColumnLength() {
+        String taskName = "t".repeat(255);
+        String projectName = "p".repeat(255);
+
+        mailDispatcher.enqueueForDigest(EmailService.TYPE_TASK_ASSIGNMENT, "user@test.com", "Subject", "Body",
+            taskName + " (" + projectName + ")");
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(MailDispatcher.DIGEST_ITEM_MAX_LENGTH, captor.getValue().getDigestItem().length());
+        assertTrue(captor.getValue().getDigestItem().startsWith(taskName + " ("));
+    }
+
+    @Test
+    void dispatchBatch_CoalescesDigestRowsPerRecipient() {
+        first.setDigestItem("Task A (Project)");
+        NotificationOutbox later = entry(5L, "first@test.com");
+        later.setDigestItem("Task B (Project)");
+        when(outboxRepository.claimPending(any(), eq(2))).thenReturn(Arrays.asList(first, second));
+        when(outboxRepository.claimPendingDigestItems(Set.of("first@test.com")))
+            .thenReturn(Arrays.asList(first, later));
+
+        int claimed = mailDispatcher.dispatchBatch();
+
+        assertEquals(2, claimed);
+        ArgumentCaptor<SimpleMailMessage[]> captor = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+        verify(mailSender).send(captor.capture());
+        SimpleMailMessage[] sent = captor.getValue();
+        assertEquals(2, sent.length);
+        assertEquals("2 new tasks assigned to you", sent[0].getSubject());
+        assertTrue(sent[0].getText().contains("Task A (Project)"));
+        assertTrue(sent[0].getText().contains("Task B (Project)"));
+        assertEquals(second.getSubject(), sent[1].getSubject());
+        assertEquals(MailDispatcher.STATUS_SENT, later.getStatus());
+        verify(outboxRepository, times(2)).saveAll(Arrays.asList(first, second, later));
+    }
+
+    @Test
+    void dispatchBatch_NothingPending() {
+        when(outboxRepository.claimPending(any(), eq(2))).thenReturn(Collections.emptyList());
+
+        assertEquals(0, mailDispatcher.dispatchBatch());
+        verifyNoInteractions(mailSender);
+    }
+
+    @Test
+    void dispatchPending_DrainsUntilBatchIsShort() {
+        List<NotificationOutbox> full = Arrays.asList(first, second);
+        when(outboxRepository.claimPending(any(), eq(2)))
+            .thenReturn(full)
+            .thenReturn(Collections.singletonList(entry(3L, "third@test.com")));
+
+        mailDispatcher.dispatchPending();
+
+        verify(outboxRepository, times(2)).claimPending(any(), eq(2));
+        verify(mailSender, times(2)).send(any(SimpleMailMessage[].class));
+    }
+
+    @Test
+    void purgeSent_DeletesSentRowsPastRetention() {
+        long before = System.currentTimeMillis();
+        when(outboxRepository.deleteSentBefore(any())).thenReturn(3);
+
+        mailDispatcher.purgeSent();
+
+        ArgumentCaptor<Timestamp> captor = ArgumentCaptor.forClass(Timestamp.class);
+        verify(outboxRepository).deleteSentBefore(captor.capture());
+        assertTrue(captor.getValue().getTime() <= before - 604800000L + 1000);
+        assertTrue(captor.getValue().getTime() >= before - 604800000L);
+    }
+
+    @Test
+    void counts_ComeFromOutboxStatus() {
+        when(outboxRepository.countByStatus(MailDispatcher.STATUS_PENDING)).thenReturn(4L);
+        when(outboxRepository.countByStatus(MailDispatcher.STATUS_FAILED)).thenReturn(1L);
+
+        assertEquals(4L, mailDispatcher.getPendingCount());
+        assertEquals(1L, mailDispatcher.getFailedCount());
+    }
+
+    private NotificationOutbox entry(Long id, String recipient) {
+        return NotificationOutbox.builder()
+            .id(id)
+            .notificationType(EmailService.TYPE_TASK_ASSIGNMENT)
+            .recipient(recipient)
+            .subject("Subject for " + recipient)
+            .body("Body")
+            .status(MailDispatcher.STATUS_PENDING)
+            .attempts(0)
+            .build();
+    }
+
+    private SimpleMailMessage message(NotificationOutbox entry) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@pmt.com");
+        message.setTo(entry.getRecipient());
+        message.setSubject(entry.getSubject());
+        message.setText(entry.getBody());
+        return message;
+    }
+}
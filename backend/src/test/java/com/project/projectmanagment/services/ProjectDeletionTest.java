@@ -0,0 +1,128 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.ProjectTaskStatsRepository;
+import com.project.projectmanagment.repositories.task.TaskRepository;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+// Not transactional: each chunk of a project delete commits on its own.
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:project_delete;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectService.class, TaskViewService.class, TaskStatsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectDeletionTest {
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskStatsService statsService;
+    @Autowired
+    private TaskViewService taskViewService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskViewRepository viewRepository;
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+    @Autowired
+    private ProjectTaskStatsRepository statsRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private ProjectVersionTracker versionTracker;
+    @MockBean
+    private EmailService emailService;
+    @MockBean
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        tombstoneRepository.deleteAll();
+        statsRepository.deleteAll();
+        viewRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void deleteProject_TombstonesEachTaskAndRemovesItsCounts() {
+        ProjectEntity project = projectRepository.save(ProjectEntity.builder().projectName("Doomed").build());
+        List<Long> taskIds = createTasks(project.getProjectId(), 3);
+
+        assertEquals(HttpStatus.OK, projectService.deleteProject("Doomed").getStatus());
+
+        assertEquals(taskIds, tombstoneRepository.findDeletedTaskIds(project.getProjectId(), 0L, Long.MAX_VALUE)
+            .stream().sorted().collect(Collectors.toList()));
+        assertTrue(taskRepository.findTaskIdsByProjectId(project.getProjectId(), PageRequest.of(0, 10)).isEmpty());
+        assertTrue(statsRepository.findByProjectId(project.getProjectId()).isEmpty());
+        assertTrue(projectRepository.findById(project.getProjectId()).isEmpty());
+    }
+
+    @Test
+    void resumeDeletes_FinishesAnInterruptedDelete() {
+        ProjectEntity project = projectRepository.save(ProjectEntity.builder()
+            .projectName("Interrupted")
+            .deletionStartedAt(new Timestamp(System.currentTimeMillis() - 3600000))
+            .build());
+        ProjectEntity active = projectRepository.save(ProjectEntity.builder().projectName("Active").build());
+        createTasks(project.getProjectId(), 2);
+        createTasks(active.getProjectId(), 1);
+
+        projectService.resumeDeletes();
+
+        assertTrue(projectRepository.findById(project.getProjectId()).isEmpty());
+        assertEquals(2, tombstoneRepository.findDeletedTaskIds(project.getProjectId(), 0L, Long.MAX_VALUE).size());
+        assertTrue(projectRepository.findById(active.getProjectId()).isPresent());
+        assertEquals(1, taskRepository.findTaskIdsByProjectId(active.getProjectId(), PageRequest.of(0, 10)).size());
+    }
+
+    private List<Long> createTasks(Long projectId, int count) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<TaskEntity> tasks = taskRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> TaskEntity.builder()
+                    .taskName("Task " + i)
+                    .taskStatus("TODO")
+                    .taskPriority("LOW")
+                    .projectId(projectId)
+                    .build())
+                .collect(Collectors.toList()));
+            statsService.recordCreated(tasks);
+            taskViewService.save(tasks);
+            return tasks.stream().map(TaskEntity::getTaskId).sorted().collect(Collectors.toList());
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.entities.task.TaskHistory;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
+import com.project.projectmanagment.repositories.task.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectExportServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectMemberRepository memberRepository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskHistoryRepository historyRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProjectExportService exportService;
+    private ProjectEntity project;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ProjectExportService(projectRepository, memberRepository, taskRepository,
+            historyRepository, entityManager, transactionManager, objectMapper);
+        project = ProjectEntity.builder().projectId(1L).projectName("Export").build();
+    }
+
+    @Test
+    void exportProject_WritesOneJsonLinePerRow() throws Exception {
+        TaskEntity first = TaskEntity.builder().taskId(10L).taskName("First").projectId(1L).build();
+        TaskEntity second = TaskEntity.builder().taskId(11L).taskName("Second").projectId(1L).build();
+        TaskHistory change = TaskHistory.builder().historyId(5L).taskId(10L).fieldChanged("taskStatus").build();
+        when(projectRepository.findByProjectName("Export")).thenReturn(Optional.of(project));
+        when(memberRepository.findByProjectId(1L)).thenReturn(Arrays.asList(
+            ProjectMember.builder().userId(2L).projectId(1L).role("ADMIN").build()));
+        when(taskRepository.streamByProjectId(1L)).thenReturn(Stream.of(first, second));
+        when(historyRepository.streamByProjectId(1L)).thenReturn(Stream.of(change));
+
+        StreamingResponseBody body = exportService.exportProject("Export").orElseThrow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(5, lines.size());
+        List<String> types = lines.stream().map(this::type).toList();
+        assertEquals(List.of("project", "member", "task", "task", "history"), types);
+        assertEquals("Second", objectMapper.readTree(lines.get(3)).get("data").get("taskName").asText());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(entityManager).detach(change);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void exportProject_UnknownProject() {
+        when(projectRepository.findByProjectName("Unknown")).thenReturn(Optional.empty());
+
+        assertTrue(exportService.exportProject("Unknown").isEmpty());
+        verifyNoInteractions(taskRepository, transactionManager);
+    }
+
+    private String type(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return node.get("type").asText();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.project.ProjectImport;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.entities.user.UserEntity;
+import com.project.projectmanagment.models.project.ImportJob;
+import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.repositories.project.ProjectImportRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
+import com.project.projectmanagment.repositories.task.TaskRepository;
+import com.project.projectmanagment.repositories.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectImportServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectImportRepository importRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskHistoryRepository historyRepository;
+    @Mock
+    private TaskStatsService statsService;
+    @Mock
+    private TaskViewService taskViewService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ProjectImportService(projectRepository, importRepository, userRepository,
+            taskRepository, historyRepository, statsService, taskViewService, entityManager,
+            transactionManager, new ObjectMapper(), 86400000L);
+    }
+
+    @Test
+    void importTasks_NdjsonResolvesEmailsAndRecordsBadRows() {
+        givenProject();
+        when(userRepository.findByLowercaseEmailIn(anyCollection())).thenReturn(Arrays.asList(
+            UserEntity.builder().userId(7L).email("Dev@Test.com").build()));
+        when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        String body = String.join("\n",
+            "{\"taskName\":\"First\",\"assigneeEmail\":\"DEV@test.com\",\"dueDate\":\"2030-01-01\"}",
+            "{\"type\":\"project\",\"data\":{\"projectName\":\"Old\"}}",
+            "{\"type\":\"task\",\"data\":{\"taskId\":99,\"taskName\":\"From export\",\"taskStatus\":\"COMPLETED\"}}",
+            "not json",
+            "{\"taskName\":\"Ghost\",\"assigneeEmail\":\"nobody@test.com\"}",
+            "");
+
+        ApiResponse response = importService.importTasks("Import", "application/x-ndjson", stream(body), 1L);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        ImportJob job = (ImportJob) response.getData();
+        assertEquals(ProjectImportService.STATUS_COMPLETED, job.getStatus());
+        assertEquals(4, job.getProcessed());
+        assertEquals(2, job.getImported());
+        assertEquals(2, job.getFailed());
+        assertEquals(List.of("Row 4: invalid JSON", "Row 5: unknown assignee nobody@test.com"), job.getErrors());
+
+        List<TaskEntity> saved = captureSavedTasks(1).get(0);
+        assertEquals(7L, saved.get(0).getAssignedTo());
+        assertEquals(1L, saved.get(0).getProjectId());
+        assertEquals("COMPLETED", saved.get(1).getTaskStatus());
+        assertNull(saved.get(1).getTaskId());
+        verify(userRepository, times(1)).findByLowercaseEmailIn(Set.of("dev@test.com", "nobody@test.com"));
+    }
+
+    @Test
+    void importTasks_RejectsOverlongNamesAndUnknownValuesPerRow() {
+        givenProject();
+        when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        String longName = "x".repeat(ProjectImportService.TASK_NAME_MAX_LENGTH + 1);
+
+        ApiResponse response = importService.importTasks("Import", "text/csv",
+            stream("taskName,taskStatus,taskPriority\nGood,IN_PROGRESS,LOW\n" + longName + ",,\n"
+                + "Stuck,BLOCKED,\nLoud,,URGENT\n"), 1L);
+
+        ImportJob job = (ImportJob) response.getData();
+        assertEquals(ProjectImportService.STATUS_COMPLETED, job.getStatus());
+        assertEquals(1, job.getImported());
+        assertEquals(List.of("Row 3: task name is longer than 255 characters", "Row 4: invalid taskStatus BLOCKED",
+            "Row 5: invalid taskPriority URGENT"), job.getErrors());
+        assertEquals("Good", captureSavedTasks(1).get(0).get(0).getTaskName());
+    }
+
+    @Test
+    void importTasks_CsvWritesInFixedSizeChunks() {
+        givenProject();
+        when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        int rows = ProjectImportService.CHUNK_SIZE + 3;
+        String body = "taskName,taskDescription,dueDate\n"
+            + "\"Quoted, name\",\"Line one\nline \"\"two\"\"\",2030-02-01\r\n"
+            + IntStream.range(1, rows).mapToObj(i -> "Task " + i + ",,").collect(Collectors.joining("\n"));
+
+        ApiResponse response = importService.importTasks("Import", "text/csv; charset=UTF-8", stream(body), 1L);
+
+        ImportJob job = (ImportJob) response.getData();
+        assertEquals(rows, job.getImported());
+        List<List<TaskEntity>> chunks = captureSavedTasks(2);
+        assertEquals(ProjectImportService.CHUNK_SIZE, chunks.get(0).size());
+        assertEquals(3, chunks.get(1).size());
+        TaskEntity first = chunks.get(0).get(0);
+        assertEquals("Quoted, name", first.getTaskName());
+        assertEquals("Line one\nline \"two\"", first.getTaskDescription());
+        assertEquals("2030-02-01", first.getDueDate().toString());
+        verify(transactionManager, times(2)).commit(any());
+        verify(statsService, times(2)).recordCreated(anyList());
+        verify(taskViewService, times(2)).save(anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void importTasks_CsvInvalidDateFailsOnlyThatRow() {
+        givenProject();
+        when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        ApiResponse response = importService.importTasks("Import", "text/csv",
+            stream("taskName,dueDate\nGood,2030-01-01\nBad,tomorrow\n"), 1L);
+
+        ImportJob job = (ImportJob) response.getData();
+        assertEquals(1, job.getImported());
+        assertEquals(List.of("Row 3: invalid dueDate tomorrow"), job.getErrors());
+    }
+
+    @Test
+    void importTasks_DatabaseErrorMarksJobFailed() {
+        givenProject();
+        when(taskRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        ApiResponse response = importService.importTasks("Import", "application/x-ndjson",
+            stream("{\"taskName\":\"First\"}"), 1L);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatus());
+        assertEquals(ProjectImportService.STATUS_FAILED, ((ImportJob) response.getData()).getStatus());
+    }
+
+    @Test
+    void importTasks_RejectsUnknownProjectAndContentType() {
+        when(projectRepository.findByProjectName("Unknown")).thenReturn(Optional.empty());
+        givenProject();
+
+        assertEquals(HttpStatus.NOT_FOUND,
+            importService.importTasks("Unknown", "text/csv", stream(""), 1L).getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST,
+            importService.importTasks("Import", "application/xml", stream(""), 1L).getStatus());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getImport_ReadsStatusSavedByAnyInstance() {
+        givenProject();
+        ImportJob job = (ImportJob) importService.importTasks("Import", "text/csv",
+            stream("taskName,taskDescription\n,Nameless\n"), 1L).getData();
+        ArgumentCaptor<ProjectImport> saved = ArgumentCaptor.forClass(ProjectImport.class);
+        verify(importRepository, atLeastOnce()).save(saved.capture());
+        ProjectImport stored = saved.getValue();
+        when(importRepository.findById(job.getImportId())).thenReturn(Optional.of(stored));
+        when(importRepository.findTop50ByProjectNameOrderByStartedAtDesc("Import")).thenReturn(List.of(stored));
+
+        assertEquals(ProjectImportService.STATUS_COMPLETED, stored.getStatus());
+        assertEquals(job, importService.getImport("Import", job.getImportId()).getData());
+        assertEquals(List.of("Row 2: task name is required"), job.getErrors());
+        assertEquals(HttpStatus.NOT_FOUND, importService.getImport("Other", job.getImportId()).getStatus());
+        assertEquals(List.of(job), importService.getImports("Import").getData());
+    }
+
+    private void givenProject() {
+        when(projectRepository.findByProjectName("Import"))
+            .thenReturn(Optional.of(ProjectEntity.builder().projectId(1L).projectName("Import").build()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<TaskEntity>> captureSavedTasks(int calls) {
+        ArgumentCaptor<List<TaskEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(calls)).saveAll(captor.capture());
+        List<List<TaskEntity>> copies = new ArrayList<>();
+        captor.getAllValues().forEach(list -> copies.add(new ArrayList<>(list)));
+        return copies;
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,25 +4,40 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.Timestamp;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.project.projectmanagment.config.CacheConfig;
 import com.project.projectmanagment.entities.bridges.ProjectMember;
 import com.project.projectmanagment.entities.project.ProjectEntity;
 import com.project.projectmanagment.entities.user.UserEntity;
 import com.project.projectmanagment.models.project.*;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
 import com.project.projectmanagment.repositories.project.*;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
 import com.project.projectmanagment.repositories.task.TaskRepository;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
 import com.project.projectmanagment.repositories.user.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +52,23 @@ class ProjectServiceTest {
     @Mock
     private TaskRepository taskRepository;
     @Mock
+    private TaskHistoryRepository historyRepository;
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+    @Mock
+    private TaskStatsService statsService;
+    @Mock
+    private ProjectVersionTracker versionTracker;
+    @Mock
+    private TaskViewService taskViewService;
+    @Mock
     private EmailService emailService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache memberCache;
 
     @InjectMocks
     private ProjectService projectService;
@@ -113,6 +144,24 @@ class ProjectServiceTest {
         assertEquals(1, projects.size());
     }
 
+    @Test
+    void getAllProjects_WithCursor_ReturnsPage() {
+        when(projectRepository.findByProjectIdGreaterThan(eq(0L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testProject), PageRequest.of(0, 1), true));
+
+        ApiResponse response = projectService.getAllProjects(null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        CursorPage<?> page = (CursorPage<?>) response.getData();
+        assertEquals(1, page.getItems().size());
+        assertEquals(testProject.getProjectId(), CursorPage.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    void getAllProjects_InvalidCursor() {
+        assertThrows(CursorPage.InvalidCursorException.class, () -> projectService.getAllProjects("%%%", null));
+    }
+
     @Test
     void getProjectByName_Success() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
@@ -150,17 +199,18 @@ class ProjectServiceTest {
     }
 
     @Test
-    void getUserProjects_Success() {
-        ProjectMember member = ProjectMember.builder()
-            .userId(1L).projectId(1L).status("ACCEPTED").build();
+    void getUserProjects_ReturnsProjectsWithRoleFromOneQuery() {
+        ProjectDTO project = ProjectDTO.builder().projectId(1L).projectName("Test Project").role("ADMIN").build();
 
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-        when(memberRepository.findByUserId(1L)).thenReturn(Arrays.asList(member));
-        when(projectRepository.findAllById(anyList())).thenReturn(Arrays.asList(testProject));
+        when(projectRepository.findAcceptedProjectsWithRole(1L)).thenReturn(Arrays.asList(project));
 
         ApiResponse response = projectService.getUserProjects("test@example.com");
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(Arrays.asList(project), response.getData());
+        verify(memberRepository, never()).findByUserId(anyLong());
+        verify(projectRepository, never()).findAllById(anyList());
     }
 
     @Test
@@ -173,40 +223,49 @@ class ProjectServiceTest {
     }
 
     @Test
-    void getUserProjects_FiltersPendingInvitations() {
-        ProjectMember accepted = ProjectMember.builder()
-            .userId(1L).projectId(1L).status("ACCEPTED").build();
-        ProjectMember pending = ProjectMember.builder()
-            .userId(1L).projectId(2L).status("PENDING").build();
-
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-        when(memberRepository.findByUserId(1L)).thenReturn(Arrays.asList(accepted, pending));
-        when(projectRepository.findAllById(anyList())).thenReturn(Arrays.asList(testProject));
+    void updateProject_Success() {
+        when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
+        when(projectRepository.save(any(ProjectEntity.class))).thenReturn(testProject);
 
-        ApiResponse response = projectService.getUserProjects("test@example.com");
+        ApiResponse response = projectService.updateProject("Test Project", projectDTO, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        verify(taskViewService, never()).projectRenamed(anyLong(), anyString());
     }
 
     @Test
-    void updateProject_Success() {
+    void updateProject_RenameRefreshesTaskView() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
         when(projectRepository.save(any(ProjectEntity.class))).thenReturn(testProject);
 
-        ApiResponse response = projectService.updateProject("Test Project", projectDTO);
+        ApiResponse response = projectService.updateProject("Test Project",
+            ProjectDTO.builder().projectName("Renamed").build(), null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        verify(taskViewService).projectRenamed(1L, "Renamed");
     }
 
     @Test
     void updateProject_NotFound() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.empty());
 
-        ApiResponse response = projectService.updateProject("Unknown", projectDTO);
+        ApiResponse response = projectService.updateProject("Unknown", projectDTO, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
 
+    @Test
+    void updateProject_StaleVersion_ShouldReturn409() {
+        testProject.setVersion(2L);
+        when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
+
+        ApiResponse response = projectService.updateProject("Test Project", projectDTO, 1L);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatus());
+        verify(projectRepository, never()).save(any(ProjectEntity.class));
+        verify(versionTracker, never()).projectChanged(anyLong());
+    }
+
     @Test
     void updateProject_PartialUpdate() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
@@ -217,7 +276,7 @@ class ProjectServiceTest {
             .projectStatus("COMPLETED")
             .build();
 
-        ApiResponse response = projectService.updateProject("Test Project", partial);
+        ApiResponse response = projectService.updateProject("Test Project", partial, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
@@ -225,13 +284,88 @@ class ProjectServiceTest {
     @Test
     void deleteProject_Success() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
-        doNothing().when(taskRepository).deleteByProjectId(anyLong());
-        doNothing().when(memberRepository).deleteByProjectId(anyLong());
-        doNothing().when(projectRepository).delete(any(ProjectEntity.class));
+        when(projectRepository.save(testProject)).thenReturn(testProject);
+        when(taskRepository.findTaskIdsByProjectId(eq(1L), any(Pageable.class))).thenReturn(Arrays.asList(10L, 11L));
+        when(cacheManager.getCache(CacheConfig.MEMBERS_BY_USER_PROJECT)).thenReturn(memberCache);
+        when(memberRepository.findUserIdsByProjectId(1L)).thenReturn(Arrays.asList(2L, 3L));
+
+        ApiResponse response = projectService.deleteProject("Test Project");
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertNotNull(testProject.getDeletionStartedAt());
+        InOrder order = inOrder(projectRepository, tombstoneRepository, statsService, taskRepository);
+        order.verify(projectRepository).save(testProject);
+        order.verify(tombstoneRepository).insertForTasks(eq(Arrays.asList(10L, 11L)), anyLong());
+        order.verify(statsService).recordDeleted(1L, Arrays.asList(10L, 11L));
+        order.verify(taskRepository).deleteByTaskIdIn(Arrays.asList(10L, 11L));
+        verify(historyRepository).deleteByTaskIdIn(Arrays.asList(10L, 11L));
+        verify(taskRepository).deleteByTaskIdIn(Arrays.asList(10L, 11L));
+        verify(taskViewService).delete(Arrays.asList(10L, 11L));
+        verify(statsService).deleteProject(1L);
+        verify(memberRepository).deleteByProjectId(1L);
+        verify(memberCache).evict("2:1");
+        verify(memberCache).evict("3:1");
+        verifyNoMoreInteractions(memberCache);
+        verify(projectRepository).delete(testProject);
+    }
+
+    @Test
+    void deleteProject_DeletesTasksInChunks() {
+        List<Long> fullChunk = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
+        when(projectRepository.save(testProject)).thenReturn(testProject);
+        when(taskRepository.findTaskIdsByProjectId(eq(1L), any(Pageable.class)))
+            .thenReturn(fullChunk)
+            .thenReturn(Arrays.asList(1001L));
 
         ApiResponse response = projectService.deleteProject("Test Project");
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        verify(taskRepository, times(2)).findTaskIdsByProjectId(eq(1L), any(Pageable.class));
+        verify(historyRepository, times(2)).deleteByTaskIdIn(anyList());
+        verify(taskRepository, times(2)).deleteByTaskIdIn(anyList());
+        verify(tombstoneRepository, times(2)).insertForTasks(anyList(), anyLong());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void deleteProject_AlreadyStarted_ResumesWithoutMarkingAgain() {
+        testProject.setDeletionStartedAt(new Timestamp(1000L));
+        when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
+        when(taskRepository.findTaskIdsByProjectId(eq(1L), any(Pageable.class))).thenReturn(Arrays.asList(12L));
+
+        ApiResponse response = projectService.deleteProject("Test Project");
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        verify(projectRepository, never()).save(any());
+        verify(tombstoneRepository).insertForTasks(eq(Arrays.asList(12L)), anyLong());
+        verify(projectRepository).delete(testProject);
+    }
+
+    @Test
+    void resumeDeletes_FinishesInterruptedDeletes() {
+        testProject.setDeletionStartedAt(new Timestamp(1000L));
+        when(projectRepository.findByDeletionStartedAtBefore(any())).thenReturn(Arrays.asList(testProject));
+        when(taskRepository.findTaskIdsByProjectId(eq(1L), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        projectService.resumeDeletes();
+
+        verify(statsService).deleteProject(1L);
+        verify(memberRepository).deleteByProjectId(1L);
+        verify(projectRepository).delete(testProject);
+    }
+
+    @Test
+    void deleteProject_WithoutTasks() {
+        when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
+        when(projectRepository.save(testProject)).thenReturn(testProject);
+        when(taskRepository.findTaskIdsByProjectId(eq(1L), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        ApiResponse response = projectService.deleteProject("Test Project");
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        verify(taskRepository, never()).deleteByTaskIdIn(anyList());
+        verify(projectRepository).delete(testProject);
     }
 
     @Test
@@ -455,23 +589,59 @@ class ProjectServiceTest {
 
     @Test
     void getProjectMembers_Success() {
-        ProjectMember member = ProjectMember.builder()
-            .userId(1L).projectId(1L).role("ADMIN").status("ACCEPTED").build();
+        ProjectMemberDTO member = ProjectMemberDTO.builder()
+            .userId(1L).email("test@example.com").role("ADMIN").status("ACCEPTED").build();
 
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
-        when(memberRepository.findByProjectId(anyLong())).thenReturn(Arrays.asList(member));
-        when(userRepository.findByUserIdIn(anyList())).thenReturn(Arrays.asList(testUser));
+        when(memberRepository.findMemberDetails(eq(1L), isNull(), eq(0L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(member)));
 
-        ApiResponse response = projectService.getProjectMembers("Test Project");
+        ApiResponse response = projectService.getProjectMembers("Test Project", null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(Arrays.asList(member), response.getData());
+        verify(userRepository, never()).findByUserIdIn(anyList());
+    }
+
+    @Test
+    void getProjectMembers_Paged_ShouldFilterStatusAndReturnCursor() {
+        ProjectMemberDTO member = ProjectMemberDTO.builder().userId(7L).status("PENDING").build();
+
+        when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
+        when(memberRepository.findMemberDetails(eq(1L), eq("PENDING"), eq(0L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(member), PageRequest.of(0, 1), true));
+
+        ApiResponse response = projectService.getProjectMembers("Test Project", "pending", null, 1);
+
+        CursorPage<?> page = (CursorPage<?>) response.getData();
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(CursorPage.encodeCursor(7L), page.getNextCursor());
+    }
+
+    @Test
+    void getProjectMembersETag_UsesProjectVersion() {
+        when(projectRepository.findByProjectName("Test Project")).thenReturn(Optional.of(testProject));
+        when(versionTracker.projectTag("members", 1L, null, null, null)).thenReturn("\"m1\"");
+
+        assertEquals(Optional.of("\"m1\""), projectService.getProjectMembersETag("Test Project", null, null, null));
+        verify(memberRepository, never()).findMemberDetails(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void getUserProjectsETag_CoversAcceptedProjects() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(memberRepository.findAcceptedProjectIdsByUserId(1L)).thenReturn(Arrays.asList(1L, 2L));
+        when(versionTracker.projectsTag("user-projects", Arrays.asList(1L, 2L))).thenReturn("\"p1\"");
+
+        assertEquals(Optional.of("\"p1\""), projectService.getUserProjectsETag("test@example.com"));
+        verify(projectRepository, never()).findAllById(anyList());
     }
 
     @Test
     void getProjectMembers_ProjectNotFound() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.empty());
 
-        ApiResponse response = projectService.getProjectMembers("Unknown");
+        ApiResponse response = projectService.getProjectMembers("Unknown", null, null, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
@@ -544,7 +714,7 @@ class ProjectServiceTest {
         when(memberRepository.findByUserIdAndProjectId(anyLong(), anyLong())).thenReturn(Optional.of(member));
         when(memberRepository.save(any(ProjectMember.class))).thenReturn(member);
 
-        ApiResponse response = projectService.updateMemberRole("test@example.com", "Test Project", "ADMIN");
+        ApiResponse response = projectService.updateMemberRole("test@example.com", "Test Project", "ADMIN", null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
@@ -553,7 +723,7 @@ class ProjectServiceTest {
     void updateMemberRole_UserNotFound() {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
 
-        ApiResponse response = projectService.updateMemberRole("unknown@example.com", "Test Project", "ADMIN");
+        ApiResponse response = projectService.updateMemberRole("unknown@example.com", "Test Project", "ADMIN", null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
@@ -563,7 +733,7 @@ class ProjectServiceTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.empty());
 
-        ApiResponse response = projectService.updateMemberRole("test@example.com", "Unknown", "ADMIN");
+        ApiResponse response = projectService.updateMemberRole("test@example.com", "Unknown", "ADMIN", null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
@@ -574,7 +744,7 @@ class ProjectServiceTest {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.of(testProject));
         when(memberRepository.findByUserIdAndProjectId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
-        ApiResponse response = projectService.updateMemberRole("test@example.com", "Test Project", "ADMIN");
+        ApiResponse response = projectService.updateMemberRole("test@example.com", "Test Project", "ADMIN", null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
@@ -593,6 +763,7 @@ class ProjectServiceTest {
 
         assertEquals(HttpStatus.OK, response.getStatus());
         verify(memberRepository).delete(member);
+        verify(versionTracker).projectChanged(1L);
     }
 
     @Test
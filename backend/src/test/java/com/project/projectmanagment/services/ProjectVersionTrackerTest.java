@@ -0,0 +1,171 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.projectmanagment.entities.bridges.ProjectMember;
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.task.TaskTombstone;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
+import com.project.projectmanagment.repositories.project.ProjectRepository;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+// Not transactional: counters are bumped when the writing transaction commits.
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(ProjectVersionTracker.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectVersionTrackerTest {
+
+    @Autowired
+    private ProjectVersionTracker tracker;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository memberRepository;
+    @Autowired
+    private TaskViewRepository viewRepository;
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long first;
+    private Long second;
+
+    @BeforeEach
+    void setUp() {
+        first = projectRepository.save(ProjectEntity.builder().projectName("First").build()).getProjectId();
+        second = projectRepository.save(ProjectEntity.builder().projectName("Second").build()).getProjectId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+        viewRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void projectTag_IsStableUntilProjectChanges() {
+        String before = tracker.projectTag("tasks", first);
+        String otherProject = tracker.projectTag("tasks", second);
+
+        assertEquals(before, tracker.projectTag("tasks", first));
+        assertTrue(before.startsWith("\"") && before.endsWith("\""));
+
+        tracker.projectChanged(first);
+
+        assertNotEquals(before, tracker.projectTag("tasks", first));
+        assertEquals(otherProject, tracker.projectTag("tasks", second));
+    }
+
+    @Test
+    void projectTag_IsSharedAcrossInstances() {
+        ProjectVersionTracker other = new ProjectVersionTracker(projectRepository, transactionManager);
+
+        assertEquals(tracker.projectTag("tasks", first), other.projectTag("tasks", first));
+
+        other.projectChanged(first);
+
+        assertEquals(other.projectTag("tasks", first), tracker.projectTag("tasks", first));
+    }
+
+    @Test
+    void projectTag_DistinguishesResourcesAndVariants() {
+        assertNotEquals(tracker.projectTag("tasks", first), tracker.projectTag("members", first));
+        assertNotEquals(tracker.projectTag("tasks", first, null, null), tracker.projectTag("tasks", first, "MTA", 20));
+    }
+
+    @Test
+    void taskListTag_FollowsTaskRowsWithoutBumpingTheProject() {
+        String before = tracker.taskListTag(first);
+        Long listVersion = projectRepository.findListVersion(first);
+
+        TaskView view = viewRepository.save(TaskView.builder().taskId(9L).taskName("Task").projectId(first).version(0L).build());
+        String created = tracker.taskListTag(first);
+        assertNotEquals(before, created);
+
+        view.setVersion(1L);
+        viewRepository.save(view);
+        String updated = tracker.taskListTag(first);
+        assertNotEquals(created, updated);
+
+        viewRepository.delete(view);
+        tombstoneRepository.save(TaskTombstone.builder().taskId(9L).projectId(first).deletedAt(1L).build());
+        assertNotEquals(updated, tracker.taskListTag(first));
+        assertNotEquals(before, tracker.taskListTag(first));
+
+        assertEquals(listVersion, projectRepository.findListVersion(first));
+        assertEquals(tracker.taskListTag(second), tracker.taskListTag(second));
+    }
+
+    @Test
+    void taskListTag_FollowsProjectChanges() {
+        String before = tracker.taskListTag(first);
+
+        tracker.projectChanged(first);
+
+        assertNotEquals(before, tracker.taskListTag(first));
+    }
+
+    @Test
+    void projectsTag_ChangesWithMembershipAndAnyProjectVersion() {
+        String before = tracker.projectsTag("user-projects", Arrays.asList(second, first));
+
+        assertEquals(before, tracker.projectsTag("user-projects", Arrays.asList(first, second)));
+        assertNotEquals(before, tracker.projectsTag("user-projects", Arrays.asList(first)));
+
+        tracker.projectChanged(second);
+        assertNotEquals(before, tracker.projectsTag("user-projects", Arrays.asList(first, second)));
+    }
+
+    @Test
+    void usersChanged_BumpsProjectsTheUserBelongsTo() {
+        memberRepository.save(ProjectMember.builder().userId(7L).projectId(first).role("MEMBER").status("ACCEPTED").build());
+        String firstBefore = tracker.projectTag("members", first);
+        String secondBefore = tracker.projectTag("members", second);
+
+        tracker.usersChanged(7L);
+
+        assertNotEquals(firstBefore, tracker.projectTag("members", first));
+        assertEquals(secondBefore, tracker.projectTag("members", second));
+    }
+
+    @Test
+    void projectChanged_InsideTransactionWaitsForCommit() {
+        String before = tracker.projectTag("tasks", first);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            tracker.projectChanged(first);
+            tracker.projectChanged(first);
+            assertEquals(before, tracker.projectTag("tasks", first));
+        });
+        String committed = tracker.projectTag("tasks", first);
+        assertNotEquals(before, committed);
+
+        transaction.executeWithoutResult(status -> {
+            tracker.projectChanged(first);
+            status.setRollbackOnly();
+        });
+        assertEquals(committed, tracker.projectTag("tasks", first));
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.task.CreateTaskRequest;
+import com.project.projectmanagment.models.task.TaskDTO;
+
+// Runs data.sql after Hibernate has created the schema, as a fresh MySQL install does. H2 in
+// MySQL mode lacks DATE_ADD and returns UNIX_TIMESTAMP as an int, so both are adapted first.
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:seeddata;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TaskService.class, TaskViewService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeedDataTaskCreationTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private EmailService emailService;
+    @MockBean
+    private TaskStatsService statsService;
+    @MockBean
+    private ProjectVersionTracker versionTracker;
+    @MockBean
+    private TaskSearchIndex searchIndex;
+
+    @Test
+    void createTask_AfterSeedData_TakesIdsPastTheSeededRows() throws IOException {
+        runSeedScript();
+
+        ApiResponse single = taskService.createTask(request("After seed"));
+        ApiResponse bulk = taskService.createTasks(Arrays.asList(request("Bulk one"), request("Bulk two")));
+
+        assertEquals(HttpStatus.OK, single.getStatus());
+        assertEquals(HttpStatus.OK, bulk.getStatus());
+        assertTrue(((TaskDTO) single.getData()).getTaskId() > 16);
+        @SuppressWarnings("unchecked")
+        List<TaskDTO> created = (List<TaskDTO>) bulk.getData();
+        assertTrue(created.stream().allMatch(task -> task.getTaskId() > 16));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM task_history_tl WHERE history_id <= 7 AND field_changed = 'CREATED'", Integer.class));
+    }
+
+    private void runSeedScript() throws IOException {
+        String script = new ClassPathResource("data.sql").getContentAsString(StandardCharsets.UTF_8)
+            .replaceAll("DATE_ADD\\(([^,]+), INTERVAL (-?\\d+) DAY\\)", "DATEADD(DAY, $2, $1)")
+            .replace("UNIX_TIMESTAMP(", "CAST(1 AS BIGINT) * UNIX_TIMESTAMP(");
+        new ResourceDatabasePopulator(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)))
+            .execute(jdbcTemplate.getDataSource());
+    }
+
+    private CreateTaskRequest request(String name) {
+        return CreateTaskRequest.builder()
+            .taskName(name)
+            .taskStatus("TODO")
+            .taskPriority("LOW")
+            .projectId(1L)
+            .createdBy(1L)
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.projectmanagment.entities.task.TaskTombstone;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+class TaskEventBroadcasterTest {
+
+    private final TaskViewRepository viewRepository = mock(TaskViewRepository.class);
+    private final TaskTombstoneRepository tombstoneRepository = mock(TaskTombstoneRepository.class);
+    private final TaskEventBroadcaster broadcaster =
+        new TaskEventBroadcaster(viewRepository, tombstoneRepository, 60000, 3, 2, 5000);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void poll_SendsChangesOnlyToSubscribersOfThatProject() throws InterruptedException {
+        RecordingEmitter first = new RecordingEmitter(false);
+        RecordingEmitter second = new RecordingEmitter(false);
+        RecordingEmitter otherProject = new RecordingEmitter(false);
+        broadcaster.register(1L, first);
+        broadcaster.register(1L, second);
+        broadcaster.register(2L, otherProject);
+        changes(List.of(view(5L, 1L, 0L), view(6L, 1L, 3L), view(7L, 3L, 1L)), List.of());
+
+        broadcaster.poll();
+
+        String created = first.nextFrame();
+        assertTrue(created.startsWith("event:TASK_CREATED\ndata:"), created);
+        assertTrue(first.nextFrame().startsWith("event:TASK_UPDATED\ndata:"));
+        assertEquals(created, second.nextFrame());
+        assertNull(otherProject.frames.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void poll_SkipsVersionsAlreadySentWithinTheSettleWindow() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        broadcaster.register(1L, emitter);
+        TaskTombstone tombstone = TaskTombstone.builder()
+            .id(1L).taskId(8L).projectId(1L).deletedAt(System.currentTimeMillis()).build();
+        changes(List.of(view(5L, 1L, 2L)), List.of(tombstone));
+
+        broadcaster.poll();
+        changes(List.of(view(5L, 1L, 2L), view(5L, 1L, 3L)), List.of(tombstone));
+        broadcaster.poll();
+
+        assertTrue(emitter.nextFrame().startsWith("event:TASK_UPDATED"));
+        assertTrue(emitter.nextFrame().startsWith("event:TASK_DELETED"));
+        assertTrue(emitter.nextFrame().startsWith("event:TASK_UPDATED"));
+        assertNull(emitter.frames.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void poll_DropsSubscribersThatFailToReceive() throws InterruptedException {
+        RecordingEmitter broken = new RecordingEmitter(false);
+        broken.broken = true;
+        broadcaster.register(1L, broken);
+        assertEquals(1, broadcaster.getSubscriberCount());
+        changes(List.of(view(5L, 1L, 1L)), List.of());
+
+        broadcaster.poll();
+
+        assertTrue(broken.failed.await(1, TimeUnit.SECONDS));
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void heartbeat_DropsSlowSubscriberWithoutDelayingOthers() throws InterruptedException {
+        RecordingEmitter stalled = new RecordingEmitter(true);
+        RecordingEmitter healthy = new RecordingEmitter(false);
+        broadcaster.register(1L, stalled);
+        broadcaster.register(2L, healthy);
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.heartbeat();
+            assertEquals(":ping\n\n", healthy.nextFrame());
+        }
+
+        assertTrue(stalled.failed.await(1, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.getSubscriberCount());
+        stalled.release.countDown();
+    }
+
+    @Test
+    void subscribe_RegistersEmitter() {
+        assertNotNull(broadcaster.subscribe(1L));
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    private void changes(List<TaskView> views, List<TaskTombstone> tombstones) {
+        when(viewRepository.findAllChangedSince(anyLong(), anyLong(), anyLong(), any())).thenReturn(views);
+        when(tombstoneRepository.findAllDeletedBetween(anyLong(), anyLong())).thenReturn(tombstones);
+    }
+
+    private TaskView view(Long taskId, Long projectId, Long version) {
+        return TaskView.builder()
+            .taskId(taskId).projectId(projectId).version(version)
+            .modifiedAt(System.currentTimeMillis())
+            .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final boolean stalled;
+        volatile boolean broken;
+
+        RecordingEmitter(boolean stalled) {
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            if (stalled) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream()
+                .map(item -> item.getData() instanceof String text ? text : "<json>")
+                .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed.countDown();
+        }
+
+        String nextFrame() throws InterruptedException {
+            String frame = frames.poll(1, TimeUnit.SECONDS);
+            assertNotNull(frame, "No frame sent");
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.projectmanagment.entities.task.TaskTombstone;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.repositories.task.TaskTombstoneRepository;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+// Not transactional: the index reads committed rows on its own thread.
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "app.search.index-dir="
+})
+@Import(TaskSearchIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskSearchIndexTest {
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+    @Autowired
+    private TaskViewRepository viewRepository;
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        searchIndex.rebuild();
+        searchIndex.awaitPoll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    @Test
+    void search_RanksNameMatchesFirstWithinCallerProjects() throws Exception {
+        viewRepository.saveAll(Arrays.asList(
+            task(1L, 10L, "Update docs", "Mention the login timeout"),
+            task(2L, 10L, "Login timeout too short", null),
+            task(3L, 20L, "Login timeout on mobile", null),
+            task(4L, 10L, "Login page", "Restyle")));
+        searchIndex.awaitPoll();
+
+        assertEquals(Arrays.asList(2L, 1L), searchIndex.search("login timeout", Arrays.asList(10L), 10));
+        assertEquals(Arrays.asList(3L), searchIndex.search("timeout mobile", Arrays.asList(10L, 20L), 10));
+        assertEquals(Arrays.asList(4L), searchIndex.search("login -timeout", Arrays.asList(10L, 20L), 10));
+        assertTrue(searchIndex.search("login", Collections.emptyList(), 10).isEmpty());
+    }
+
+    @Test
+    void poll_AppliesUpdatesAndTombstonesFromAnyInstance() throws Exception {
+        viewRepository.save(task(1L, 10L, "Fix export", null));
+        searchIndex.awaitPoll();
+        viewRepository.save(task(1L, 10L, "Fix import", null));
+        searchIndex.awaitPoll();
+
+        assertTrue(searchIndex.search("export", Arrays.asList(10L), 10).isEmpty());
+        assertEquals(Arrays.asList(1L), searchIndex.search("import", Arrays.asList(10L), 10));
+
+        viewRepository.deleteById(1L);
+        tombstoneRepository.save(TaskTombstone.builder()
+            .taskId(1L).projectId(10L).deletedAt(System.currentTimeMillis()).build());
+        searchIndex.awaitPoll();
+
+        assertTrue(searchIndex.search("import", Arrays.asList(10L), 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ReindexesFromTaskView() throws Exception {
+        viewRepository.save(task(4L, 10L, "Stale report", null));
+        searchIndex.awaitPoll();
+        viewRepository.deleteById(4L);
+        viewRepository.saveAll(Arrays.asList(
+            TaskView.builder().taskId(1L).taskName("Quarterly report").projectId(10L).build(),
+            TaskView.builder().taskId(2L).taskName("Draft").taskDescription("Report outline").projectId(10L).build()));
+
+        assertTrue(searchIndex.rebuild());
+        searchIndex.awaitPoll();
+
+        assertEquals(Arrays.asList(1L, 2L), searchIndex.search("report", Arrays.asList(10L), 10));
+    }
+
+    private TaskView task(Long taskId, Long projectId, String name, String description) {
+        return TaskView.builder()
+            .taskId(taskId).projectId(projectId).taskName(name).taskDescription(description)
+            .modifiedAt(System.currentTimeMillis())
+            .build();
+    }
+}
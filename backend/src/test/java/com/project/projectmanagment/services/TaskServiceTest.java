@@ -6,9 +6,15 @@ import static org.mockito.Mockito.*;
 
 import java.sql.Date;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,14 +22,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.project.projectmanagment.entities.project.ProjectEntity;
 import com.project.projectmanagment.entities.task.TaskEntity;
 import com.project.projectmanagment.entities.task.TaskHistory;
+import com.project.projectmanagment.entities.task.TaskTombstone;
+import com.project.projectmanagment.entities.task.TaskView;
 import com.project.projectmanagment.entities.user.UserEntity;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
+import com.project.projectmanagment.models.task.BulkTaskUpdate;
 import com.project.projectmanagment.models.task.CreateTaskRequest;
+import com.project.projectmanagment.models.task.TaskChanges;
+import com.project.projectmanagment.models.task.TaskDTO;
+import com.project.projectmanagment.models.task.TaskEvent;
+import com.project.projectmanagment.models.task.TaskSummary;
+import com.project.projectmanagment.repositories.project.ProjectMemberRepository;
 import com.project.projectmanagment.repositories.project.ProjectRepository;
 import com.project.projectmanagment.repositories.task.*;
 import com.project.projectmanagment.repositories.user.UserRepository;
@@ -36,22 +57,43 @@ class TaskServiceTest {
     @Mock
     private TaskHistoryRepository historyRepository;
     @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+    @Mock
     private ProjectRepository projectRepository;
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ProjectMemberRepository memberRepository;
+    @Mock
     private EmailService emailService;
+    @Mock
+    private TaskStatsService statsService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ProjectVersionTracker versionTracker;
+    @Mock
+    private TaskViewRepository viewRepository;
+    @Mock
+    private TaskViewService taskViewService;
+    @Mock
+    private TaskSearchIndex searchIndex;
 
     @InjectMocks
     private TaskService taskService;
 
     private TaskEntity testTask;
+    private TaskView testView;
+    private TaskSummary testSummary;
     private ProjectEntity testProject;
     private UserEntity testUser;
     private CreateTaskRequest createRequest;
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(taskService, "syncSettleMs", 5000L);
+        ReflectionTestUtils.setField(taskService, "tombstoneRetentionMs", 86400000L);
+
         testUser = UserEntity.builder()
             .userId(1L)
             .name("Test User")
@@ -75,6 +117,18 @@ class TaskServiceTest {
             .createdAt(new Date(System.currentTimeMillis()))
             .build();
 
+        testView = TaskView.builder()
+            .taskId(1L)
+            .taskName("Test Task")
+            .taskStatus("TODO")
+            .projectId(1L)
+            .projectName("Test Project")
+            .assignedTo(1L)
+            .assignedToName("Test User")
+            .taskDescription("Description")
+            .build();
+        testSummary = summary(testView);
+
         createRequest = CreateTaskRequest.builder()
             .taskName("Test Task")
             .taskDescription("Description")
@@ -91,11 +145,15 @@ class TaskServiceTest {
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(testTask);
         when(historyRepository.save(any(TaskHistory.class))).thenReturn(new TaskHistory());
+        stubViewSave();
 
         ApiResponse response = taskService.createTask(createRequest);
 
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("Task created successfully", response.getMessage());
+        verify(statsService).recordCreated(Collections.singletonList(testTask));
+        verify(eventPublisher).publishEvent(argThat((TaskEvent e) -> TaskEvent.CREATED.equals(e.getType())
+            && e.getProjectId() == 1L && e.getTask() == response.getData()));
     }
 
     @Test
@@ -122,6 +180,7 @@ class TaskServiceTest {
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(testTask);
         when(historyRepository.save(any(TaskHistory.class))).thenReturn(new TaskHistory());
+        stubViewSave();
 
         ApiResponse response = taskService.createTask(req);
 
@@ -130,11 +189,9 @@ class TaskServiceTest {
 
     @Test
     void getAllTasks_Success() {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(viewRepository.findAllProjectedBy()).thenReturn(Arrays.asList(testSummary));
 
-        ApiResponse response = taskService.getAllTasks();
+        ApiResponse response = taskService.getAllTasks(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
         List<?> tasks = (List<?>) response.getData();
@@ -143,18 +200,69 @@ class TaskServiceTest {
 
     @Test
     void getAllTasks_Empty() {
-        when(taskRepository.findAll()).thenReturn(Collections.emptyList());
+        when(viewRepository.findAllProjectedBy()).thenReturn(Collections.emptyList());
 
-        ApiResponse response = taskService.getAllTasks();
+        ApiResponse response = taskService.getAllTasks(null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+    }
+
+    @Test
+    void getAllTasks_WithCursor_ReturnsPage() {
+        when(viewRepository.findByTaskIdGreaterThan(eq(10L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testSummary), PageRequest.of(0, 1), true));
+
+        ApiResponse response = taskService.getAllTasks(CursorPage.encodeCursor(10L), 1, null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        CursorPage<?> page = (CursorPage<?>) response.getData();
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertEquals(1L, CursorPage.decodeCursor(page.getNextCursor()));
+        verify(viewRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllTasks_LastPageHasNoCursor() {
+        when(viewRepository.findByTaskIdGreaterThan(eq(0L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testSummary), PageRequest.of(0, 50), false));
+
+        ApiResponse response = taskService.getAllTasks(null, 50, null);
+
+        CursorPage<?> page = (CursorPage<?>) response.getData();
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAllTasks_InvalidCursor() {
+        assertThrows(CursorPage.InvalidCursorException.class, () -> taskService.getAllTasks("not-a-cursor", 10, null));
+    }
+
+    @Test
+    void getTasksByProject_WithCursor_ReturnsPage() {
+        when(viewRepository.findByProjectIdAndTaskIdGreaterThan(eq(1L), eq(0L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 20), false));
+
+        ApiResponse response = taskService.getTasksByProject(1L, null, 20, null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertTrue(((CursorPage<?>) response.getData()).getItems().isEmpty());
+    }
+
+    @Test
+    void getTasksByStatus_WithCursor_ReturnsPage() {
+        when(viewRepository.findByTaskStatusAndTaskIdGreaterThan(eq("TODO"), eq(5L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 20), false));
+
+        ApiResponse response = taskService.getTasksByStatus("todo", CursorPage.encodeCursor(5L), 20, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
 
     @Test
     void getTaskById_Success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(viewRepository.findById(1L)).thenReturn(Optional.of(testView));
 
         ApiResponse response = taskService.getTaskById(1L);
 
@@ -163,7 +271,7 @@ class TaskServiceTest {
 
     @Test
     void getTaskById_NotFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(viewRepository.findById(1L)).thenReturn(Optional.empty());
 
         ApiResponse response = taskService.getTaskById(1L);
 
@@ -172,11 +280,9 @@ class TaskServiceTest {
 
     @Test
     void getTasksByProject_Success() {
-        when(taskRepository.findByProjectId(1L)).thenReturn(Arrays.asList(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(viewRepository.findByProjectId(1L)).thenReturn(Arrays.asList(testSummary));
 
-        ApiResponse response = taskService.getTasksByProject(1L);
+        ApiResponse response = taskService.getTasksByProject(1L, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
@@ -184,11 +290,9 @@ class TaskServiceTest {
     @Test
     void getTasksByProjectName_Success() {
         when(projectRepository.findByProjectName("Test Project")).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProjectId(1L)).thenReturn(Arrays.asList(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(viewRepository.findByProjectId(1L)).thenReturn(Arrays.asList(testSummary));
 
-        ApiResponse response = taskService.getTasksByProjectName("Test Project");
+        ApiResponse response = taskService.getTasksByProjectName("Test Project", null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
@@ -197,29 +301,68 @@ class TaskServiceTest {
     void getTasksByProjectName_ProjectNotFound() {
         when(projectRepository.findByProjectName(anyString())).thenReturn(Optional.empty());
 
-        ApiResponse response = taskService.getTasksByProjectName("Unknown");
+        ApiResponse response = taskService.getTasksByProjectName("Unknown", null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
 
     @Test
     void getTasksByUser_Success() {
-        when(taskRepository.findByAssignedTo(1L)).thenReturn(Arrays.asList(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(viewRepository.findByAssignedTo(1L)).thenReturn(Arrays.asList(testSummary));
 
-        ApiResponse response = taskService.getTasksByUser(1L);
+        ApiResponse response = taskService.getTasksByUser(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
 
+    @Test
+    void searchTasks_ReturnsHitsInRankOrderAndDropsDeleted() throws Exception {
+        TaskView other = TaskView.builder().taskId(2L).taskName("Other").projectId(1L).build();
+        when(memberRepository.findAcceptedProjectIdsByUserId(1L)).thenReturn(Arrays.asList(1L));
+        when(searchIndex.search("login bug", Arrays.asList(1L), 20)).thenReturn(Arrays.asList(2L, 3L, 1L));
+        when(viewRepository.findByTaskIdIn(Arrays.asList(2L, 3L, 1L)))
+            .thenReturn(Arrays.asList(testSummary, summary(other)));
+
+        ApiResponse response = taskService.searchTasks("login bug", 1L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        List<?> tasks = (List<?>) response.getData();
+        assertEquals(Arrays.asList(2L, 1L), tasks.stream().map(t -> ((TaskDTO) t).getTaskId()).toList());
+    }
+
+    @Test
+    void searchTasks_CapsLimit() throws Exception {
+        when(memberRepository.findAcceptedProjectIdsByUserId(1L)).thenReturn(Collections.emptyList());
+        when(searchIndex.search("bug", Collections.emptyList(), 100)).thenReturn(Collections.emptyList());
+
+        ApiResponse response = taskService.searchTasks("bug", 1L, 5000);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        verify(viewRepository, never()).findByTaskIdIn(any());
+    }
+
+    @Test
+    void searchTasks_BlankQuery() {
+        ApiResponse response = taskService.searchTasks("  ", 1L, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void rebuildSearchIndex_Accepted() {
+        when(searchIndex.rebuild()).thenReturn(true);
+
+        ApiResponse response = taskService.rebuildSearchIndex();
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatus());
+    }
+
     @Test
     void getTasksByStatus_Success() {
-        when(taskRepository.findByTaskStatus("TODO")).thenReturn(Arrays.asList(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(viewRepository.findByTaskStatus("TODO")).thenReturn(Arrays.asList(testSummary));
 
-        ApiResponse response = taskService.getTasksByStatus("TODO");
+        ApiResponse response = taskService.getTasksByStatus("TODO", null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
@@ -227,40 +370,134 @@ class TaskServiceTest {
     @Test
     void updateTask_Success() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        stubViewSave();
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(testTask);
-        when(historyRepository.save(any(TaskHistory.class))).thenReturn(new TaskHistory());
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
 
         createRequest.setTaskName("Updated Task");
         createRequest.setTaskStatus("IN_PROGRESS");
         createRequest.setTaskPriority("HIGH");
         createRequest.setTaskDescription("Updated desc");
-        ApiResponse response = taskService.updateTask(1L, createRequest, 1L);
+        ApiResponse response = taskService.updateTask(1L, createRequest, 1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        verify(historyRepository).saveAll(argThat(history -> ((List<?>) history).size() == 4));
+        verify(historyRepository, never()).save(any(TaskHistory.class));
+        verify(taskViewService).save(Collections.singletonList(testTask));
+        verify(statsService).recordChanged(
+            Collections.singletonList(new TaskStatsService.StatsKey(1L, "TODO", "MEDIUM")),
+            Collections.singletonList(new TaskStatsService.StatsKey(1L, "IN_PROGRESS", "HIGH")));
     }
 
     @Test
     void updateTask_NotFound() {
         when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
-        ApiResponse response = taskService.updateTask(999L, createRequest, 1L);
+        ApiResponse response = taskService.updateTask(999L, createRequest, 1L, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
 
+    @Test
+    void updateTask_StaleVersion_ShouldReturn409WithoutWriting() {
+        testTask.setVersion(3L);
+        testView.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(viewRepository.findById(1L)).thenReturn(Optional.of(testView));
+
+        createRequest.setTaskName("Updated Task");
+        ApiResponse response = taskService.updateTask(1L, createRequest, 1L, 2L);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatus());
+        assertEquals(3L, ((TaskDTO) response.getData()).getVersion());
+        assertNotEquals("Updated Task", testTask.getTaskName());
+        verify(taskRepository, never()).save(any(TaskEntity.class));
+        verifyNoInteractions(historyRepository, statsService, eventPublisher, taskViewService);
+    }
+
+    @Test
+    void updateTaskStatus_ShouldRecordHistory() {
+        testView.setVersion(3L);
+        when(viewRepository.findById(1L)).thenReturn(Optional.of(testView));
+        when(taskRepository.updateStatus(eq(1L), eq(3L), eq("COMPLETED"), any(Date.class), anyLong())).thenReturn(1);
+
+        ApiResponse response = taskService.updateTaskStatus(1L, "COMPLETED", 1L, 3L);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(4L, ((TaskDTO) response.getData()).getVersion());
+        assertEquals("COMPLETED", testView.getTaskStatus());
+        verify(historyRepository).save(argThat(h -> "TODO".equals(h.getOldValue()) && "COMPLETED".equals(h.getNewValue())));
+        verify(statsService).recordChanged(
+            Collections.singletonList(new TaskStatsService.StatsKey(1L, "TODO", null)),
+            Collections.singletonList(new TaskStatsService.StatsKey(1L, "COMPLETED", null)));
+        verify(taskRepository, never()).findById(anyLong());
+        verifyNoInteractions(taskViewService);
+    }
+
+    @Test
+    void updateTaskStatus_StaleExpectedVersion_ShouldConflictWithoutWriting() {
+        testView.setVersion(3L);
+        when(viewRepository.findById(1L)).thenReturn(Optional.of(testView));
+
+        ApiResponse response = taskService.updateTaskStatus(1L, "COMPLETED", 1L, 2L);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatus());
+        verify(taskRepository, never()).updateStatus(anyLong(), anyLong(), anyString(), any(), anyLong());
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void updateTaskStatus_RowMovedOnSinceRead_FallsBackToFullUpdate() {
+        testView.setVersion(3L);
+        when(viewRepository.findById(1L)).thenReturn(Optional.of(testView));
+        when(taskRepository.updateStatus(eq(1L), eq(3L), eq("COMPLETED"), any(Date.class), anyLong())).thenReturn(0);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        stubViewSave();
+
+        ApiResponse response = taskService.updateTaskStatus(1L, "COMPLETED", 1L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("COMPLETED", testTask.getTaskStatus());
+        verify(historyRepository).saveAll(argThat(history -> ((List<?>) history).size() == 1));
+    }
+
+    @Test
+    void patchTask_NullClearsFieldAndRecordsHistory() {
+        testTask.setDueDate(Date.valueOf("2030-01-01"));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        stubViewSave();
+
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("dueDate", null);
+        patch.put("taskPriority", "HIGH");
+        ApiResponse response = taskService.patchTask(1L, patch, 1L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertNull(testTask.getDueDate());
+        assertEquals("HIGH", testTask.getTaskPriority());
+        verify(historyRepository).saveAll(argThat(history -> ((List<?>) history).stream()
+            .map(h -> ((TaskHistory) h).getFieldChanged())
+            .collect(Collectors.toSet()).equals(Set.of("dueDate", "taskPriority"))));
+    }
+
+    @Test
+    void patchTask_UnpatchableField_ShouldReturn400() {
+        ApiResponse response = taskService.patchTask(1L, Map.of("projectId", 2), 1L, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void updateTask_WithAssigneeChange() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        stubViewSave();
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(testTask);
-        when(historyRepository.save(any(TaskHistory.class))).thenReturn(new TaskHistory());
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
         doNothing().when(emailService).sendTaskAssignmentNotification(anyString(), anyString(), anyString());
 
         createRequest.setAssignedTo(2L);
-        ApiResponse response = taskService.updateTask(1L, createRequest, 1L);
+        ApiResponse response = taskService.updateTask(1L, createRequest, 1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
@@ -268,17 +505,99 @@ class TaskServiceTest {
     @Test
     void updateTask_WithDueDateChange() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        stubViewSave();
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(testTask);
-        when(historyRepository.save(any(TaskHistory.class))).thenReturn(new TaskHistory());
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
 
         createRequest.setDueDate(new Date(System.currentTimeMillis() + 86400000));
-        ApiResponse response = taskService.updateTask(1L, createRequest, 1L);
+        ApiResponse response = taskService.updateTask(1L, createRequest, 1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
 
+    @Test
+    void createTasks_SavesTasksAndHistoryInOneBatch() {
+        CreateTaskRequest second = CreateTaskRequest.builder().taskName("Second").projectId(1L).createdBy(1L).build();
+        TaskEntity secondTask = TaskEntity.builder().taskId(2L).taskName("Second").projectId(1L).createdBy(1L).build();
+        when(projectRepository.findAllById(anySet())).thenReturn(Arrays.asList(testProject));
+        when(taskRepository.saveAll(anyList())).thenReturn(Arrays.asList(testTask, secondTask));
+        stubViewSave();
+
+        ApiResponse response = taskService.createTasks(Arrays.asList(createRequest, second));
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(2, ((List<?>) response.getData()).size());
+        verify(projectRepository, never()).findById(anyLong());
+        verify(historyRepository).saveAll(argThat(history -> ((List<?>) history).size() == 2));
+        verify(taskRepository, never()).save(any(TaskEntity.class));
+    }
+
+    @Test
+    void createTasks_UnknownProject() {
+        createRequest.setProjectId(9L);
+        when(projectRepository.findAllById(anySet())).thenReturn(Collections.emptyList());
+
+        ApiResponse response = taskService.createTasks(Arrays.asList(createRequest));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createTasks_RejectsMissingNameAndEmptyBatch() {
+        createRequest.setTaskName(" ");
+
+        assertEquals(HttpStatus.BAD_REQUEST, taskService.createTasks(Arrays.asList(createRequest)).getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, taskService.createTasks(Collections.emptyList()).getStatus());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void updateTasks_AppliesChangesAndBatchesHistory() {
+        TaskEntity secondTask = TaskEntity.builder().taskId(2L).taskName("Second").taskStatus("TODO").projectId(1L).build();
+        when(taskRepository.findAllById(anySet())).thenReturn(Arrays.asList(testTask, secondTask));
+        when(taskRepository.saveAll(anyCollection())).thenReturn(Arrays.asList(testTask, secondTask));
+        stubViewSave();
+
+        CreateTaskRequest done = CreateTaskRequest.builder().taskStatus("COMPLETED").build();
+        ApiResponse response = taskService.updateTasks(Arrays.asList(
+            BulkTaskUpdate.builder().taskId(1L).changes(done).build(),
+            BulkTaskUpdate.builder().taskId(2L).changes(done).build()), 1L);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("COMPLETED", testTask.getTaskStatus());
+        assertEquals("COMPLETED", secondTask.getTaskStatus());
+        verify(historyRepository).saveAll(argThat(history -> ((List<?>) history).size() == 2));
+        verify(statsService).recordChanged(
+            Arrays.asList(new TaskStatsService.StatsKey(1L, "TODO", "MEDIUM"),
+                new TaskStatsService.StatsKey(1L, "TODO", null)),
+            Arrays.asList(new TaskStatsService.StatsKey(1L, "COMPLETED", "MEDIUM"),
+                new TaskStatsService.StatsKey(1L, "COMPLETED", null)));
+    }
+
+    @Test
+    void updateTasks_StaleVersion_ShouldReturn409() {
+        testTask.setVersion(5L);
+        when(taskRepository.findAllById(anySet())).thenReturn(Arrays.asList(testTask));
+
+        ApiResponse response = taskService.updateTasks(Arrays.asList(
+            BulkTaskUpdate.builder().taskId(1L).version(4L).changes(createRequest).build()), 1L);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatus());
+        verify(taskRepository, never()).saveAll(anyCollection());
+        verify(historyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void updateTasks_UnknownTask() {
+        when(taskRepository.findAllById(anySet())).thenReturn(Collections.emptyList());
+
+        ApiResponse response = taskService.updateTasks(Arrays.asList(
+            BulkTaskUpdate.builder().taskId(9L).changes(createRequest).build()), 1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
+        verify(historyRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void deleteTask_Success() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
@@ -287,6 +606,59 @@ class TaskServiceTest {
         ApiResponse response = taskService.deleteTask(1L);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        verify(statsService).recordDeleted(testTask);
+        verify(taskViewService).delete(Collections.singletonList(1L));
+        verify(eventPublisher).publishEvent(TaskEvent.builder().type(TaskEvent.DELETED).projectId(1L).taskId(1L).build());
+        verify(tombstoneRepository).save(argThat((TaskTombstone t) -> t.getTaskId() == 1L && t.getProjectId() == 1L));
+    }
+
+    @Test
+    void getTaskChanges_FullPageContinuesFromLastRow() {
+        long since = System.currentTimeMillis() - 60000;
+        TaskView first = TaskView.builder().taskId(7L).projectId(1L).modifiedAt(since + 10).build();
+        TaskView second = TaskView.builder().taskId(3L).projectId(1L).modifiedAt(since + 20).build();
+        TaskView extra = TaskView.builder().taskId(4L).projectId(1L).modifiedAt(since + 20).build();
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(viewRepository.findChangedSince(eq(1L), eq(since), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+            .thenReturn(Arrays.asList(first, second, extra));
+        when(tombstoneRepository.findDeletedTaskIds(1L, since, since + 20)).thenReturn(Arrays.asList(9L));
+
+        ApiResponse response = taskService.getTaskChanges(1L, since, null, 2);
+
+        TaskChanges changes = (TaskChanges) response.getData();
+        assertEquals(2, changes.getTasks().size());
+        assertEquals(since + 20, changes.getSince());
+        assertEquals(CursorPage.encodeCursor(3L), changes.getNextCursor());
+        assertTrue(changes.isHasMore());
+        assertEquals(Arrays.asList(9L), changes.getDeleted());
+    }
+
+    @Test
+    void getTaskChanges_LastPageTrailsWatermarkBySettleWindow() {
+        long since = System.currentTimeMillis() - 60000;
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(viewRepository.findChangedSince(eq(1L), eq(since), eq(3L), any(Pageable.class)))
+            .thenReturn(Collections.emptyList());
+        when(tombstoneRepository.findDeletedTaskIds(eq(1L), eq(since), anyLong())).thenReturn(Collections.emptyList());
+
+        long before = System.currentTimeMillis();
+        ApiResponse response = taskService.getTaskChanges(1L, since, CursorPage.encodeCursor(3L), null);
+
+        TaskChanges changes = (TaskChanges) response.getData();
+        assertFalse(changes.isHasMore());
+        assertNull(changes.getNextCursor());
+        assertTrue(changes.getSince() >= before - 5000 && changes.getSince() <= System.currentTimeMillis() - 5000);
+    }
+
+    @Test
+    void getTaskChanges_RejectsExpiredWatermarkAndBadInput() {
+        assertEquals(HttpStatus.GONE,
+            taskService.getTaskChanges(1L, System.currentTimeMillis() - 2 * 86400000L, null, null).getStatus());
+        assertThrows(CursorPage.InvalidCursorException.class, () -> taskService.getTaskChanges(1L, 0L, "%%%", null));
+
+        when(projectRepository.findById(2L)).thenReturn(Optional.empty());
+        assertEquals(HttpStatus.NOT_FOUND, taskService.getTaskChanges(2L, 0L, null, null).getStatus());
+        verifyNoInteractions(tombstoneRepository);
     }
 
     @Test
@@ -326,33 +698,59 @@ class TaskServiceTest {
 
     @Test
     void getDashboardStats_Success() {
-        TaskEntity todoTask = TaskEntity.builder().taskId(1L).taskStatus("TODO").projectId(1L).assignedTo(1L).build();
-        TaskEntity ipTask = TaskEntity.builder().taskId(2L).taskStatus("IN_PROGRESS").projectId(1L).assignedTo(1L).build();
-        TaskEntity doneTask = TaskEntity.builder().taskId(3L).taskStatus("COMPLETED").projectId(1L).assignedTo(1L).build();
+        TaskView todoTask = TaskView.builder().taskId(1L).taskStatus("TODO").projectId(1L).assignedTo(1L).build();
+        TaskView ipTask = TaskView.builder().taskId(2L).taskStatus("IN_PROGRESS").projectId(1L).assignedTo(1L).build();
+        TaskView doneTask = TaskView.builder().taskId(3L).taskStatus("COMPLETED").projectId(1L).assignedTo(1L).build();
 
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(todoTask, ipTask, doneTask));
+        when(statsService.countByStatus()).thenReturn(Map.of("TODO", 4L, "IN_PROGRESS", 2L, "COMPLETED", 1L));
         when(projectRepository.count()).thenReturn(5L);
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(memberRepository.findAcceptedProjectIdsByUserId(1L)).thenReturn(Arrays.asList(1L));
+        when(viewRepository.findByProjectIdInAndTaskStatus(anyList(), eq("TODO"), any(Pageable.class)))
+            .thenReturn(Arrays.asList(summary(todoTask)));
+        when(viewRepository.findByProjectIdInAndTaskStatus(anyList(), eq("IN_PROGRESS"), any(Pageable.class)))
+            .thenReturn(Arrays.asList(summary(ipTask)));
+        when(viewRepository.findByProjectIdInAndTaskStatus(anyList(), eq("COMPLETED"), any(Pageable.class)))
+            .thenReturn(Arrays.asList(summary(doneTask)));
+
+        ApiResponse response = taskService.getDashboardStats("test@example.com", 0, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        Map<?, ?> stats = (Map<?, ?>) response.getData();
+        assertEquals(4L, stats.get("todoTasks"));
+        assertEquals(7L, stats.get("totalTasks"));
+        Map<?, ?> tasksByStatus = (Map<?, ?>) stats.get("tasksByStatus");
+        assertEquals(1, ((List<?>) tasksByStatus.get("IN_PROGRESS")).size());
+        verify(viewRepository, never()).findAll();
+        verify(projectRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getDashboardStats_NoProjects() {
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(statsService.countByStatus()).thenReturn(Collections.emptyMap());
+        when(memberRepository.findAcceptedProjectIdsByUserId(1L)).thenReturn(Collections.emptyList());
 
-        ApiResponse response = taskService.getDashboardStats("test@example.com");
+        ApiResponse response = taskService.getDashboardStats("test@example.com", 0, 20);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        Map<?, ?> stats = (Map<?, ?>) response.getData();
+        assertEquals(0L, stats.get("todoTasks"));
+        verify(viewRepository, never()).findByProjectIdInAndTaskStatus(anyList(), anyString(), any(Pageable.class));
     }
 
     @Test
     void getDashboardStats_UserNotFound() {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
 
-        ApiResponse response = taskService.getDashboardStats("unknown@example.com");
+        ApiResponse response = taskService.getDashboardStats("unknown@example.com", 0, 20);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
     }
 
     @Test
     void toDTO_WithNullProjectAndAssignee() {
-        TaskEntity taskNoRefs = TaskEntity.builder()
+        TaskView taskNoRefs = TaskView.builder()
             .taskId(2L)
             .taskName("Orphan Task")
             .taskDescription("No project or assignee")
@@ -363,21 +761,81 @@ class TaskServiceTest {
             .createdBy(1L)
             .build();
 
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(taskNoRefs));
+        when(viewRepository.findAllProjectedBy()).thenReturn(Arrays.asList(summary(taskNoRefs)));
 
-        ApiResponse response = taskService.getAllTasks();
+        ApiResponse response = taskService.getAllTasks(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatus());
     }
 
     @Test
-    void toDTO_WithMissingProjectInDb() {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(testTask));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.empty());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+    void getTasksByProject_ReadsNamesFromViewWithoutLookups() {
+        when(viewRepository.findByProjectId(1L)).thenReturn(Arrays.asList(testSummary));
 
-        ApiResponse response = taskService.getAllTasks();
+        ApiResponse response = taskService.getTasksByProject(1L, null, null, null);
 
-        assertEquals(HttpStatus.OK, response.getStatus());
+        TaskDTO dto = (TaskDTO) ((List<?>) response.getData()).get(0);
+        assertEquals("Test Project", dto.getProjectName());
+        assertEquals("Test User", dto.getAssignedToName());
+        verifyNoInteractions(projectRepository, userRepository, taskRepository);
+    }
+
+    @Test
+    void getTasksByProject_ListsWithoutDescription() {
+        when(viewRepository.findByProjectId(1L)).thenReturn(Arrays.asList(testSummary));
+
+        ApiResponse response = taskService.getTasksByProject(1L, null, null, null);
+
+        assertNull(((TaskDTO) ((List<?>) response.getData()).get(0)).getTaskDescription());
+    }
+
+    @Test
+    void getTasksByProject_WithFields_KeepsRequestedKeysAndTaskId() {
+        Map<String, Object> found = new LinkedHashMap<>();
+        found.put("taskId", 1L);
+        found.put("taskName", "Test Task");
+        found.put("assignedToName", "Test User");
+        when(viewRepository.findFields(eq(Set.of("taskId", "taskName", "assignedToName")), eq("projectId"), eq(1L),
+                eq(0L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(found), PageRequest.of(0, 20), true));
+
+        ApiResponse response = taskService.getTasksByProject(1L, null, 20, "taskName, assignedToName");
+
+        CursorPage<?> page = (CursorPage<?>) response.getData();
+        assertEquals(Arrays.asList(found), page.getItems());
+        assertEquals(CursorPage.encodeCursor(1L), page.getNextCursor());
+        verify(viewRepository, never()).findByProjectIdAndTaskIdGreaterThan(any(), any(), any());
+    }
+
+    @Test
+    void getTasksByUser_WithFields_SelectsOnlyThoseColumns() {
+        when(viewRepository.findFields(Set.of("taskId", "taskStatus"), "assignedTo", 1L)).thenReturn(List.of());
+
+        ApiResponse response = taskService.getTasksByUser(1L, "taskStatus");
+
+        assertEquals(List.of(), response.getData());
+        verify(viewRepository, never()).findByAssignedTo(any());
+    }
+
+    @Test
+    void getTasksByStatus_WithDescriptionOrUnknownField_ShouldReturn400() {
+        assertEquals(HttpStatus.BAD_REQUEST,
+            taskService.getTasksByStatus("TODO", null, null, "taskName,taskDescription").getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, taskService.getTasksByUser(1L, "password").getStatus());
+        verifyNoInteractions(viewRepository);
+    }
+
+    private TaskSummary summary(TaskView view) {
+        return new SpelAwareProxyProjectionFactory().createProjection(TaskSummary.class, view);
+    }
+
+    private void stubViewSave() {
+        when(taskViewService.save(anyCollection())).thenAnswer(inv -> ((Collection<?>) inv.getArgument(0)).stream()
+            .map(t -> TaskDTO.builder()
+                .taskId(((TaskEntity) t).getTaskId())
+                .projectId(((TaskEntity) t).getProjectId())
+                .version(((TaskEntity) t).getVersion())
+                .build())
+            .collect(Collectors.toList()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.project.projectmanagment.entities.task.ProjectTaskStats;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.repositories.task.ProjectTaskStatsRepository;
+import com.project.projectmanagment.services.TaskStatsService.StatsKey;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:task_stats;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskStatsService.class)
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskStatsService statsService;
+    @Autowired
+    private ProjectTaskStatsRepository statsRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void recordMethods_KeepCountsInStep() {
+        statsService.recordCreated(Arrays.asList(task(1L, "TODO", "HIGH"), task(1L, "TODO", "HIGH"),
+            task(1L, "TODO", "LOW"), task(2L, "COMPLETED", "LOW")));
+        statsService.recordChanged(
+            Collections.singletonList(new StatsKey(1L, "TODO", "HIGH")),
+            Collections.singletonList(new StatsKey(1L, "IN_PROGRESS", "HIGH")));
+        statsService.recordDeleted(task(1L, "TODO", "LOW"));
+
+        assertEquals(Map.of("1:TODO:HIGH", 1L, "1:IN_PROGRESS:HIGH", 1L, "1:TODO:LOW", 0L, "2:COMPLETED:LOW", 1L),
+            snapshot());
+        assertEquals(Map.of("TODO", 1L, "IN_PROGRESS", 1L, "COMPLETED", 1L), statsService.countByStatus());
+
+        Map<?, ?> projectStats = (Map<?, ?>) statsService.getProjectStats(1L).getData();
+        assertEquals(2L, projectStats.get("totalTasks"));
+        assertEquals(Map.of("HIGH", 2L, "LOW", 0L), projectStats.get("byPriority"));
+    }
+
+    @Test
+    void recordChanged_IgnoresUnchangedKeys() {
+        statsService.recordCreated(Collections.singletonList(task(1L, "TODO", "HIGH")));
+        entityManager.clear();
+
+        statsService.recordChanged(
+            Collections.singletonList(new StatsKey(1L, "TODO", "HIGH")),
+            Collections.singletonList(new StatsKey(1L, "TODO", "HIGH")));
+
+        assertEquals(Map.of("1:TODO:HIGH", 1L), snapshot());
+    }
+
+    @Test
+    void reconcile_CorrectsDriftFromTasks() {
+        entityManager.persist(task(1L, "TODO", "HIGH"));
+        entityManager.persist(task(1L, "TODO", "HIGH"));
+        entityManager.persist(task(3L, "COMPLETED", "MEDIUM"));
+        statsService.recordCreated(Arrays.asList(task(1L, "TODO", "HIGH"), task(1L, "TODO", "LOW"),
+            task(9L, "TODO", "LOW")));
+        entityManager.flush();
+
+        statsService.reconcile();
+
+        assertEquals(Map.of("1:TODO:HIGH", 2L, "1:TODO:LOW", 0L, "3:COMPLETED:MEDIUM", 1L, "9:TODO:LOW", 0L),
+            snapshot());
+    }
+
+    @Test
+    void recordDeleted_TakesTheGivenTasksOutOfTheCounts() {
+        TaskEntity high = entityManager.persist(task(1L, "TODO", "HIGH"));
+        TaskEntity low = entityManager.persist(task(1L, "TODO", "LOW"));
+        TaskEntity kept = entityManager.persist(task(1L, "TODO", "LOW"));
+        statsService.recordCreated(Arrays.asList(high, low, kept));
+        entityManager.flush();
+
+        statsService.recordDeleted(1L, Arrays.asList(high.getTaskId(), low.getTaskId()));
+
+        assertEquals(Map.of("1:TODO:HIGH", 0L, "1:TODO:LOW", 1L), snapshot());
+    }
+
+    @Test
+    void deleteProject_RemovesOnlyThatProject() {
+        statsService.recordCreated(Arrays.asList(task(1L, "TODO", "HIGH"), task(2L, "TODO", "HIGH")));
+
+        statsService.deleteProject(1L);
+
+        assertEquals(Map.of("2:TODO:HIGH", 1L), snapshot());
+        ApiResponse response = statsService.getProjectStats(1L);
+        assertEquals(0L, ((Map<?, ?>) response.getData()).get("totalTasks"));
+    }
+
+    private Map<String, Long> snapshot() {
+        entityManager.clear();
+        List<ProjectTaskStats> rows = statsRepository.findAll();
+        return rows.stream().collect(Collectors.toMap(
+            s -> s.getProjectId() + ":" + s.getStatus() + ":" + s.getPriority(), ProjectTaskStats::getTaskCount));
+    }
+
+    private TaskEntity task(Long projectId, String status, String priority) {
+        return TaskEntity.builder()
+            .taskName("Task")
+            .projectId(projectId)
+            .taskStatus(status)
+            .taskPriority(priority)
+            .build();
+    }
+}
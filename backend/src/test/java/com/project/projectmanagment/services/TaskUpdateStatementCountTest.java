@@ -0,0 +1,158 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.entities.task.TaskHistory;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.models.task.CreateTaskRequest;
+import com.project.projectmanagment.models.task.TaskDTO;
+import com.project.projectmanagment.repositories.task.TaskHistoryRepository;
+import com.project.projectmanagment.support.SqlCapture;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    SqlCapture.PROPERTY
+})
+@Import({TaskService.class, TaskViewService.class})
+class TaskUpdateStatementCountTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskHistoryRepository historyRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @MockBean
+    private EmailService emailService;
+    @MockBean
+    private TaskStatsService statsService;
+    @MockBean
+    private ProjectVersionTracker versionTracker;
+    @MockBean
+    private TaskSearchIndex searchIndex;
+
+    @Test
+    void updateTask_FullFormEditWritesHistoryInOneBatch() {
+        ProjectEntity project = entityManager.persist(ProjectEntity.builder().projectName("Batching").build());
+        TaskEntity task = entityManager.persist(TaskEntity.builder()
+            .taskName("Before")
+            .taskDescription("Before")
+            .taskStatus("TODO")
+            .taskPriority("LOW")
+            .projectId(project.getProjectId())
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        CreateTaskRequest edit = CreateTaskRequest.builder()
+            .taskName("After")
+            .taskDescription("After")
+            .taskStatus("IN_PROGRESS")
+            .taskPriority("HIGH")
+            .dueDate(Date.valueOf("2030-01-01"))
+            .assignedTo(42L)
+            .build();
+        assertEquals(HttpStatus.OK, taskService.updateTask(task.getTaskId(), edit, 1L, null).getStatus());
+        entityManager.flush();
+
+        // Six changed fields: previously six IDENTITY inserts, now one batched statement.
+        assertEquals(1, count("insert into task_history_tl"));
+        assertEquals(1, count("update task_tl"));
+
+        List<TaskHistory> history = historyRepository.findByTaskIdOrderByChangedAtDesc(task.getTaskId());
+        assertEquals(6, history.size());
+        assertEquals(1, history.stream().map(TaskHistory::getChangedAt).distinct().count());
+    }
+
+    @Test
+    void updateTaskStatus_WritesOnlyChangedColumns() {
+        ProjectEntity project = entityManager.persist(ProjectEntity.builder().projectName("Drag").build());
+        TaskDTO task = (TaskDTO) taskService.createTask(CreateTaskRequest.builder()
+            .taskName("Task").taskDescription("A long description").taskStatus("TODO")
+            .projectId(project.getProjectId()).build()).getData();
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        assertEquals(HttpStatus.OK, taskService.updateTaskStatus(task.getTaskId(), "COMPLETED", 1L, null).getStatus());
+        entityManager.flush();
+
+        // One task_view read, the guarded task_tl update, the history row and the task_view update.
+        List<String> updates = SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update task_tl"))
+            .toList();
+        assertEquals(1, updates.size());
+        assertTrue(updates.get(0).contains("task_status"));
+        assertTrue(updates.get(0).contains("version=?"));
+        assertFalse(updates.get(0).contains("task_description"));
+        assertFalse(updates.get(0).contains("task_name"));
+        assertEquals(0, SqlCapture.STATEMENTS.stream().filter(sql -> sql.contains(" from task_tl")).count());
+        assertEquals(1, count("select"));
+        assertEquals(1, count("insert into task_history_tl"));
+        assertEquals(1, count("update task_view"));
+        assertEquals(4, SqlCapture.STATEMENTS.size());
+        assertEquals(2, historyRepository.findByTaskIdOrderByChangedAtDesc(task.getTaskId()).size());
+    }
+
+    @Test
+    void createAndUpdate_KeepTaskViewInSync() {
+        ProjectEntity project = entityManager.persist(ProjectEntity.builder().projectName("Board").build());
+        CreateTaskRequest create = CreateTaskRequest.builder()
+            .taskName("Task").taskDescription("A long description").projectId(project.getProjectId()).build();
+        TaskDTO created = (TaskDTO) taskService.createTask(create).getData();
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        TaskDTO updated = (TaskDTO) taskService.updateTaskStatus(created.getTaskId(), "COMPLETED", 1L, null).getData();
+        entityManager.flush();
+
+        TaskView view = entityManager.find(TaskView.class, created.getTaskId());
+        assertEquals("Board", view.getProjectName());
+        assertEquals("COMPLETED", view.getTaskStatus());
+        assertEquals(updated.getVersion(), view.getVersion());
+        List<String> viewUpdates = SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update task_view"))
+            .toList();
+        assertEquals(1, viewUpdates.size());
+        assertFalse(viewUpdates.get(0).contains("task_description"));
+    }
+
+    @Test
+    void updateTask_ConcurrentCommitAfterRead_ShouldFailOptimisticLock() {
+        TaskEntity task = entityManager.persistFlushFind(TaskEntity.builder().taskName("Before").taskStatus("TODO").build());
+        assertEquals(0L, task.getVersion());
+        // Another writer commits after our read: the row moves on, the managed copy does not.
+        entityManager.getEntityManager()
+            .createNativeQuery("UPDATE task_tl SET version = version + 1 WHERE task_id = :id")
+            .setParameter("id", task.getTaskId())
+            .executeUpdate();
+
+        CreateTaskRequest edit = CreateTaskRequest.builder().taskStatus("COMPLETED").build();
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> taskService.updateTask(task.getTaskId(), edit, 1L, null));
+    }
+
+    private long count(String prefix) {
+        return SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith(prefix))
+            .count();
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.projectmanagment.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.project.projectmanagment.entities.project.ProjectEntity;
+import com.project.projectmanagment.entities.task.TaskEntity;
+import com.project.projectmanagment.entities.task.TaskView;
+import com.project.projectmanagment.entities.user.UserEntity;
+import com.project.projectmanagment.models.task.TaskDTO;
+import com.project.projectmanagment.repositories.task.TaskViewRepository;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(TaskViewService.class)
+class TaskViewServiceTest {
+
+    @Autowired
+    private TaskViewService taskViewService;
+    @Autowired
+    private TaskViewRepository viewRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @MockBean
+    private ProjectVersionTracker versionTracker;
+
+    @Test
+    void save_CopiesNamesAndUpdatesExistingRows() {
+        ProjectEntity project = entityManager.persist(ProjectEntity.builder().projectName("Board").build());
+        UserEntity alice = entityManager.persist(user("alice@test.com", "Alice"));
+        TaskEntity assigned = entityManager.persist(task("Assigned", project.getProjectId(), alice.getUserId()));
+        TaskEntity orphan = entityManager.persist(task("Orphan", null, alice.getUserId() + 1000));
+
+        List<TaskDTO> dtos = taskViewService.save(Arrays.asList(orphan, assigned));
+        entityManager.flush();
+
+        assertEquals(Arrays.asList(orphan.getTaskId(), assigned.getTaskId()),
+            dtos.stream().map(TaskDTO::getTaskId).toList());
+        assertEquals("Board", dtos.get(1).getProjectName());
+        assertEquals("Alice", dtos.get(1).getAssignedToName());
+        assertNull(dtos.get(0).getProjectName());
+        assertNull(dtos.get(0).getAssignedToName());
+
+        assigned.setTaskStatus("COMPLETED");
+        taskViewService.save(Collections.singletonList(assigned));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, viewRepository.count());
+        assertEquals("COMPLETED", viewRepository.findById(assigned.getTaskId()).orElseThrow().getTaskStatus());
+    }
+
+    @Test
+    void delete_RemovesRows() {
+        TaskEntity task = entityManager.persist(task("Task", null, null));
+        taskViewService.save(Collections.singletonList(task));
+        entityManager.flush();
+
+        taskViewService.delete(Collections.singletonList(task.getTaskId()));
+
+        assertEquals(0, viewRepository.count());
+    }
+
+    @Test
+    void refreshNames_RepairsStaleNames() {
+        ProjectEntity project = entityManager.persist(ProjectEntity.builder().projectName("Renamed").build());
+        UserEntity alice = entityManager.persist(user("alice@test.com", "Alice Smith"));
+        entityManager.persist(TaskView.builder()
+            .taskId(1L).taskName("Task")
+            .projectId(project.getProjectId()).projectName("Old")
+            .assignedTo(alice.getUserId()).assignedToName("Alice")
+            .build());
+        entityManager.persist(TaskView.builder()
+            .taskId(2L).taskName("Gone").assignedTo(alice.getUserId() + 1000).assignedToName("Deleted")
+            .build());
+        entityManager.flush();
+
+        taskViewService.refreshNames();
+        entityManager.clear();
+
+        TaskView refreshed = viewRepository.findById(1L).orElseThrow();
+        assertEquals("Renamed", refreshed.getProjectName());
+        assertEquals("Alice Smith", refreshed.getAssignedToName());
+        assertNull(viewRepository.findById(2L).orElseThrow().getAssignedToName());
+        verify(versionTracker).allChanged();
+    }
+
+    private TaskEntity task(String name, Long projectId, Long assignedTo) {
+        return TaskEntity.builder()
+            .taskName(name).taskStatus("TODO").projectId(projectId).assignedTo(assignedTo).modifiedAt(1L).build();
+    }
+
+    private UserEntity user(String email, String name) {
+        return UserEntity.builder().email(email).name(name).password("secret").isActive(true).build();
+    }
+}
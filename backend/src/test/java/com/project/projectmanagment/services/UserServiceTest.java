@@ -14,10 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 
 import com.project.projectmanagment.entities.user.UserEntity;
 import com.project.projectmanagment.models.response.ApiResponse;
+import com.project.projectmanagment.models.response.CursorPage;
 import com.project.projectmanagment.models.user.*;
 import com.project.projectmanagment.repositories.user.UserRepository;
 
@@ -26,6 +30,10 @@ class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ProjectVersionTracker versionTracker;
+    @Mock
+    private TaskViewService taskViewService;
 
     @InjectMocks
     private UserService userService;
@@ -145,6 +153,19 @@ class UserServiceTest {
         assertEquals(2, users.size());
     }
 
+    @Test
+    void getAllUsers_WithCursor_ReturnsPage() {
+        when(userRepository.findByUserIdGreaterThan(eq(1L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(inactiveUser), PageRequest.of(0, 10), false));
+
+        ApiResponse response = userService.getAllUsers(CursorPage.encodeCursor(1L), 10);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        CursorPage<?> page = (CursorPage<?>) response.getData();
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+    }
+
     @Test
     void getAllUsers_EmptyList() {
         when(userRepository.findAll()).thenReturn(Arrays.asList());
@@ -204,6 +225,8 @@ class UserServiceTest {
 
         assertEquals(HttpStatus.OK, response.getStatus());
         verify(userRepository).save(any(UserEntity.class));
+        verify(versionTracker).usersChanged(1L);
+        verify(taskViewService, never()).userRenamed(anyLong(), any());
     }
 
     @Test
@@ -228,6 +251,7 @@ class UserServiceTest {
         ApiResponse response = userService.updateUser(1L, partialRequest);
 
         assertEquals(HttpStatus.OK, response.getStatus());
+        verify(taskViewService).userRenamed(1L, "New Name");
     }
 
     @Test
@@ -239,6 +263,7 @@ class UserServiceTest {
 
         assertEquals(HttpStatus.OK, response.getStatus());
         verify(userRepository).delete(testUser);
+        verify(taskViewService).userRenamed(1L, null);
     }
 
     @Test
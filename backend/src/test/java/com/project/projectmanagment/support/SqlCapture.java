@@ -0,0 +1,24 @@
+package com.project.projectmanagment.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every statement Hibernate prepares, whitespace-collapsed. Enable it in a test with
+ * {@link #PROPERTY} and clear {@link #STATEMENTS} before the calls under test.
+ */
+public class SqlCapture implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.project.projectmanagment.support.SqlCapture";
+    public static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.trim().replaceAll("\\s+", " "));
+        return sql;
+    }
+}
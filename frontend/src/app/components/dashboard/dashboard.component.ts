@@ -41,7 +41,6 @@ import { Task } from '../../models/task.model';
           <div class="kanban-column-content">
             <div *ngFor="let task of todoTasks" class="task-card" data-testid="card-task-todo">
               <div class="task-card-title">{{ task.taskName }}</div>
-              <div class="task-card-desc">{{ task.taskDescription }}</div>
               <div class="task-card-footer">
                 <span class="badge" [class]="'badge-' + task.taskPriority.toLowerCase()">
                   {{ task.taskPriority }}
@@ -58,7 +57,6 @@ import { Task } from '../../models/task.model';
           <div class="kanban-column-content">
             <div *ngFor="let task of inProgressTasks" class="task-card" data-testid="card-task-progress">
               <div class="task-card-title">{{ task.taskName }}</div>
-              <div class="task-card-desc">{{ task.taskDescription }}</div>
               <div class="task-card-footer">
                 <span class="badge" [class]="'badge-' + task.taskPriority.toLowerCase()">
                   {{ task.taskPriority }}
@@ -75,7 +73,6 @@ import { Task } from '../../models/task.model';
           <div class="kanban-column-content">
             <div *ngFor="let task of completedTasks" class="task-card" data-testid="card-task-completed">
               <div class="task-card-title">{{ task.taskName }}</div>
-              <div class="task-card-desc">{{ task.taskDescription }}</div>
               <div class="task-card-footer">
                 <span class="badge" [class]="'badge-' + task.taskPriority.toLowerCase()">
                   {{ task.taskPriority }}
@@ -46,7 +46,6 @@ import { User } from '../../models/user.model';
             <div class="kanban-column-content">
               <div *ngFor="let task of todoTasks" class="task-card" data-testid="card-task">
                 <div class="task-card-title">{{ task.taskName }}</div>
-                <div class="task-card-desc">{{ task.taskDescription }}</div>
                 <div class="task-card-footer">
                   <span class="badge" [class]="'badge-' + task.taskPriority?.toLowerCase()">{{ task.taskPriority }}</span>
                   <div class="task-actions">
@@ -64,7 +63,6 @@ import { User } from '../../models/user.model';
             <div class="kanban-column-content">
               <div *ngFor="let task of inProgressTasks" class="task-card">
                 <div class="task-card-title">{{ task.taskName }}</div>
-                <div class="task-card-desc">{{ task.taskDescription }}</div>
                 <div class="task-card-footer">
                   <span class="badge" [class]="'badge-' + task.taskPriority?.toLowerCase()">{{ task.taskPriority }}</span>
                   <div class="task-actions">
@@ -82,7 +80,6 @@ import { User } from '../../models/user.model';
             <div class="kanban-column-content">
               <div *ngFor="let task of completedTasks" class="task-card">
                 <div class="task-card-title">{{ task.taskName }}</div>
-                <div class="task-card-desc">{{ task.taskDescription }}</div>
                 <div class="task-card-footer">
                   <span class="badge" [class]="'badge-' + task.taskPriority?.toLowerCase()">{{ task.taskPriority }}</span>
                   <div class="task-actions">
@@ -414,16 +411,23 @@ export class ProjectDetailComponent implements OnInit {
   }
 
   editTask(task: Task): void {
-    this.editingTask = task;
-    this.taskForm = {
-      taskName: task.taskName,
-      taskDescription: task.taskDescription,
-      taskStatus: task.taskStatus,
-      taskPriority: task.taskPriority,
-      dueDate: task.dueDate,
-      assignedTo: task.assignedTo
-    };
-    this.showTaskModal = true;
+    // Board cards carry no description; load the full task so saving does not blank it.
+    this.taskService.getTaskById(task.taskId).subscribe({
+      next: (res) => {
+        const full = res.data || task;
+        this.editingTask = full;
+        this.taskForm = {
+          taskName: full.taskName,
+          taskDescription: full.taskDescription,
+          taskStatus: full.taskStatus,
+          taskPriority: full.taskPriority,
+          dueDate: full.dueDate,
+          assignedTo: full.assignedTo
+        };
+        this.showTaskModal = true;
+      },
+      error: (err) => console.error(err)
+    });
   }
 
   closeTaskModal(): void {
@@ -513,7 +517,13 @@ export class ProjectDetailComponent implements OnInit {
     this.selectedTask = task;
     this.selectedTaskHistory = [];
     this.showTaskDetailModal = true;
-    
+
+    this.taskService.getTaskById(task.taskId).subscribe({
+      next: (res) => {
+        if (res.data) this.selectedTask = res.data;
+      },
+      error: (err) => console.error(err)
+    });
     this.taskService.getTaskHistory(task.taskId).subscribe({
       next: (res) => {
         if (res.data) this.selectedTaskHistory = res.data;
@@ -24,7 +24,7 @@ describe('ProjectsComponent', () => {
       'getAllProjects', 
       'createProject', 
       'deleteProject',
-      'getMemberRole'
+      'getUserProjects'
     ]);
     authServiceSpy = jasmine.createSpyObj('AuthService', [], {
       currentUser: { userId: 1, email: 'test@test.com', name: 'Test', isActive: true }
@@ -36,11 +36,11 @@ describe('ProjectsComponent', () => {
       data: mockProjects
     } as ApiResponse<Project[]>));
 
-    projectServiceSpy.getMemberRole.and.returnValue(of({
+    projectServiceSpy.getUserProjects.and.returnValue(of({
       status: 'OK',
       message: 'Success',
-      data: { role: 'ADMIN', email: 'test@test.com', projectName: 'Project 1' }
-    } as ApiResponse<any>));
+      data: [{ ...mockProjects[0], role: 'ADMIN' }]
+    } as ApiResponse<Project[]>));
 
     projectServiceSpy.createProject.and.returnValue(of({
       status: 'OK',
@@ -76,8 +76,10 @@ describe('ProjectsComponent', () => {
     expect(component.projects.length).toBe(2);
   });
 
-  it('should load user roles for projects', () => {
-    expect(projectServiceSpy.getMemberRole).toHaveBeenCalled();
+  it('should load user roles for projects in one request', () => {
+    expect(projectServiceSpy.getUserProjects).toHaveBeenCalledOnceWith('test@test.com');
+    expect(component.projectRoles.get('Project 1')).toBe('ADMIN');
+    expect(component.projectRoles.has('Project 2')).toBeFalse();
   });
 
   it('should show create modal when button clicked', () => {
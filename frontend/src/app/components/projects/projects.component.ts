@@ -164,15 +164,16 @@ export class ProjectsComponent implements OnInit {
     const email = this.authService.currentUser?.email;
     if (!email) return;
 
-    this.projects.forEach(project => {
-      this.projectService.getMemberRole(project.projectName, email).subscribe({
-        next: (res) => {
-          if (res.data && res.data.role) {
-            this.projectRoles.set(project.projectName, res.data.role);
+    // One request: the user's projects come back with their role in each.
+    this.projectService.getUserProjects(email).subscribe({
+      next: (res) => {
+        (res.data || []).forEach(project => {
+          if (project.role) {
+            this.projectRoles.set(project.projectName, project.role);
           }
-        },
-        error: () => {}
-      });
+        });
+      },
+      error: () => {}
     });
   }
 
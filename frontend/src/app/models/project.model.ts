@@ -6,6 +6,8 @@ export interface Project {
   projectStatus: string;
   createdBy: number;
   creatorEmail?: string;
+  version?: number;
+  role?: string;
 }
 
 export interface ProjectMember {
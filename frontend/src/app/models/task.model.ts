@@ -1,7 +1,8 @@
 export interface Task {
   taskId: number;
   taskName: string;
-  taskDescription: string;
+  // Only GET /task/{taskId} returns the description; list endpoints leave it out.
+  taskDescription?: string;
   taskStatus: string;
   taskPriority: string;
   dueDate: string;